@@ -0,0 +1,91 @@
+package com.portfolio.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.model.Category;
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.service.TaskMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entities and DTOs shaped like production data: every task has a category, three tags and all timestamps.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 10, 30, 15, 123_456_000);
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int count) {
+        User user = users(1).get(0);
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            Category category = new Category();
+            category.setId(id);
+            category.setName("Category " + id);
+            categories.add(category);
+        }
+        List<Tag> tags = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            Tag tag = new Tag();
+            tag.setId(id);
+            tag.setName("tag-" + id);
+            tags.add(tag);
+        }
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setTitle("Prepare quarterly report section " + i);
+            task.setDescription("Collect the numbers from finance, check them against last quarter and write a summary");
+            task.setStatus(Task.Status.values()[i % Task.Status.values().length]);
+            task.setPriority(Task.Priority.values()[i % Task.Priority.values().length]);
+            task.setDueDate(NOW.plusDays(i % 30));
+            task.setCreatedAt(NOW.minusDays(7));
+            task.setUpdatedAt(NOW.minusHours(i % 48));
+            task.setUser(user);
+            task.setCategory(categories.get(i % categories.size()));
+            task.setTags(new ArrayList<>(List.of(
+                    tags.get(i % tags.size()), tags.get((i + 3) % tags.size()), tags.get((i + 7) % tags.size()))));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskDTO> taskDTOs(int count) {
+        return tasks(count).stream().map(TaskMapper::toDTO).toList();
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setUsername("user" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Z8kpjZc4dHhlKLtOTTV5Ey");
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setCreatedAt(NOW.minusDays(30));
+            user.setUpdatedAt(NOW);
+            users.add(user);
+        }
+        return users;
+    }
+
+    // Configured like the application's ObjectMapper: JSR-310 module, ISO-8601 dates
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
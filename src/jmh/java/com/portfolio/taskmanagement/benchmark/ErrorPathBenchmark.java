@@ -0,0 +1,67 @@
+package com.portfolio.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.exception.GlobalExceptionHandler;
+import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering with an error: creating the exception, mapping it in {@link GlobalExceptionHandler}
+ * and serializing the body. Stack traces here are shallower than under a servlet container, so the
+ * exception part is a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MethodParameter parameter;
+    private long id;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        objectMapper = BenchmarkData.objectMapper();
+        parameter = new MethodParameter(ErrorPathBenchmark.class.getDeclaredMethod("createTask", TaskDTO.class), 0);
+    }
+
+    @Benchmark
+    public byte[] notFound() throws IOException {
+        ResourceNotFoundException ex = new ResourceNotFoundException("Task not found with id: " + ++id);
+        return objectMapper.writeValueAsBytes(handler.handleResourceNotFoundException(ex).getBody());
+    }
+
+    @Benchmark
+    public byte[] validationFailure() throws IOException {
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(new TaskDTO(), "taskDTO");
+        result.addError(new FieldError("taskDTO", "title", "Title is required"));
+        result.addError(new FieldError("taskDTO", "status", "Status is required"));
+        result.addError(new FieldError("taskDTO", "priority", "Priority is required"));
+        MethodArgumentNotValidException ex = new MethodArgumentNotValidException(parameter, result);
+        return objectMapper.writeValueAsBytes(handler.handleValidationExceptions(ex).getBody());
+    }
+
+    @Benchmark
+    public byte[] unexpectedError() throws IOException {
+        IllegalStateException ex = new IllegalStateException("Unexpected state for task " + ++id);
+        return objectMapper.writeValueAsBytes(handler.handleGlobalException(ex).getBody());
+    }
+
+    // Signature the validation failure is reported against
+    @SuppressWarnings("unused")
+    private void createTask(TaskDTO taskDTO) {
+    }
+}
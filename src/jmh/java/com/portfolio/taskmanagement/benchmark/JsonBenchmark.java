@@ -0,0 +1,51 @@
+package com.portfolio.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of task lists as written by the list endpoints and read by the bulk endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private List<TaskDTO> tasks;
+    private byte[] json;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        writer = objectMapper.writerFor(new TypeReference<List<TaskDTO>>() { });
+        reader = objectMapper.readerFor(new TypeReference<List<TaskDTO>>() { });
+        tasks = BenchmarkData.taskDTOs(size);
+        json = writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDTO> deserializeTasks() throws IOException {
+        return reader.readValue(json);
+    }
+}
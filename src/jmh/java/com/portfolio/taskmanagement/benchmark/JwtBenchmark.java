@@ -0,0 +1,91 @@
+package com.portfolio.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.security.AuthenticatedUser;
+import com.portfolio.taskmanagement.security.JwtAuthenticationFilter;
+import com.portfolio.taskmanagement.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of bearer authentication: a full HS512 signature check, which the claims cache saves on
+ * repeated tokens, against the cached lookup, and the whole filter with and without a token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGenerationMustBeLongEnoughForHS512";
+
+    private JwtService jwtService;
+    private JwtParser parser;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(7), 10_000,
+                new SimpleMeterRegistry());
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        filter = new JwtAuthenticationFilter(jwtService, new ObjectMapper());
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setRole(User.Role.USER);
+        token = jwtService.createAccessToken(user);
+        jwtService.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public Claims verifySignature() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public AuthenticatedUser verifyCached() {
+        return jwtService.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterWithToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return filter(request);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterWithoutToken() throws ServletException, IOException {
+        return filter(new MockHttpServletRequest("GET", "/api/tasks"));
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
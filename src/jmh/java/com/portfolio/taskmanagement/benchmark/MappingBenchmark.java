@@ -0,0 +1,55 @@
+package com.portfolio.taskmanagement.benchmark;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.service.TaskMapper;
+import com.portfolio.taskmanagement.service.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done by every task and user read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private List<Task> tasks;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+        users = BenchmarkData.users(size);
+    }
+
+    @Benchmark
+    public List<TaskDTO> mapTasks() {
+        List<TaskDTO> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(TaskMapper.toDTO(task));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<UserDTO> mapUsers() {
+        List<UserDTO> dtos = new ArrayList<>(users.size());
+        for (User user : users) {
+            dtos.add(UserMapper.toDTO(user));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.taskmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.metrics.SqlStatementCountFilter;
+import com.portfolio.taskmanagement.metrics.SqlStatementCounter;
+import com.portfolio.taskmanagement.metrics.TimedJacksonHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class MetricsConfig {
+
+    // Replaces Spring Boot's JSON converter, keeping its ObjectMapper
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(SqlStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public SqlStatementCountFilter sqlStatementCountFilter(
+            SqlStatementCounter statementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${sql-statement-count.header-enabled:true}") boolean headerEnabled) {
+        return new SqlStatementCountFilter(statementCounter, meterRegistry, headerEnabled);
+    }
+}
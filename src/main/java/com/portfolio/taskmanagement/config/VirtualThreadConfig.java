@@ -0,0 +1,20 @@
+package com.portfolio.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Guards the {@code virtual} profile: on Java 17 Spring Boot silently ignores
+ * {@code spring.threads.virtual.enabled} and would keep serving from platform threads.
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException(
+                    "The virtual profile requires Java 21 or newer but is running on " + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.portfolio.taskmanagement.config;
+
+import com.portfolio.taskmanagement.security.CurrentUserIdArgumentResolver;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer, DisposableBean {
+
+    // Spring MVC writes each element of a Flux or StreamingResponseBody with a blocking servlet write on this pool,
+    // so every open stream holds a thread while its client reads. Not registered as a bean, which would replace
+    // Boot's applicationTaskExecutor
+    private final ThreadPoolTaskExecutor streamWriter = new ThreadPoolTaskExecutor();
+
+    public WebConfig(@Value("${reactive-reads.writer-threads:64}") int writerThreads) {
+        streamWriter.setThreadNamePrefix("stream-writer-");
+        streamWriter.setCorePoolSize(writerThreads);
+        streamWriter.setMaxPoolSize(writerThreads);
+        streamWriter.setQueueCapacity(writerThreads);
+        streamWriter.initialize();
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserIdArgumentResolver());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamWriter);
+    }
+
+    @Override
+    public void destroy() {
+        streamWriter.shutdown();
+    }
+}
@@ -0,0 +1,106 @@
+package com.portfolio.taskmanagement.controller;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.exception.TooManyRequestsException;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.security.CurrentUserId;
+import com.portfolio.taskmanagement.service.ReactiveTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Task list reads streamed as NDJSON or server-sent events, chosen by the Accept header.
+ * The request thread is released while rows arrive over R2DBC, and each task is written only
+ * once the previous one has been sent, so slow clients slow down the query instead of filling memory.
+ * <p>
+ * This is still Spring MVC: every task is a blocking servlet write on the stream writer pool, so an open
+ * stream holds a writer thread while its client reads. At most {@code reactive-reads.max-streams} streams
+ * are open at once, fewer than the writer threads, and further requests get 429; a stream whose client takes
+ * longer than {@code reactive-reads.write-timeout} to take the next task is cancelled.
+ */
+@RestController
+@RequestMapping(value = "/api/reactive/tasks",
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+@Tag(name = "Reactive Task Reads", description = "Non-blocking task queries streamed as NDJSON or server-sent events")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService reactiveTaskService;
+    private final Semaphore openStreams;
+    private final Duration writeTimeout;
+
+    public ReactiveTaskController(
+            ReactiveTaskService reactiveTaskService,
+            @Value("${reactive-reads.max-streams:48}") int maxStreams,
+            @Value("${reactive-reads.write-timeout:30s}") Duration writeTimeout) {
+        this.reactiveTaskService = reactiveTaskService;
+        this.openStreams = new Semaphore(maxStreams);
+        this.writeTimeout = writeTimeout;
+    }
+
+    @GetMapping
+    @Operation(summary = "Stream all tasks for a user")
+    public Flux<TaskDTO> getAllTasks(@CurrentUserId Long userId) {
+        return limited(() -> reactiveTaskService.getAllTasksForUser(userId));
+    }
+
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Stream tasks by status")
+    public Flux<TaskDTO> getTasksByStatus(@PathVariable Task.Status status, @CurrentUserId Long userId) {
+        return limited(() -> reactiveTaskService.getTasksByStatus(userId, status));
+    }
+
+    @GetMapping("/priority/{priority}")
+    @Operation(summary = "Stream tasks by priority")
+    public Flux<TaskDTO> getTasksByPriority(@PathVariable Task.Priority priority, @CurrentUserId Long userId) {
+        return limited(() -> reactiveTaskService.getTasksByPriority(userId, priority));
+    }
+
+    @GetMapping("/category/{categoryId}")
+    @Operation(summary = "Stream tasks by category")
+    public Flux<TaskDTO> getTasksByCategory(@PathVariable Long categoryId, @CurrentUserId Long userId) {
+        return limited(() -> reactiveTaskService.getTasksByCategory(userId, categoryId));
+    }
+
+    @GetMapping("/tag/{tagId}")
+    @Operation(summary = "Stream tasks by tag")
+    public Flux<TaskDTO> getTasksByTag(@PathVariable Long tagId, @CurrentUserId Long userId) {
+        return limited(() -> reactiveTaskService.getTasksByTag(userId, tagId));
+    }
+
+    @GetMapping("/due-between")
+    @Operation(summary = "Stream tasks due between two dates")
+    public Flux<TaskDTO> getTasksDueBetween(
+            @CurrentUserId Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        return limited(() -> reactiveTaskService.getTasksDueBetween(userId, start, end));
+    }
+
+    private Flux<TaskDTO> limited(Supplier<Flux<TaskDTO>> query) {
+        if (!openStreams.tryAcquire()) {
+            throw new TooManyRequestsException("Too many task streams open, please retry shortly", 1);
+        }
+        try {
+            return query.get()
+                    .timeout(writeTimeout)
+                    .doFinally(signal -> openStreams.release());
+        } catch (RuntimeException e) {
+            openStreams.release();
+            throw e;
+        }
+    }
+}
@@ -1,19 +1,56 @@
 package com.portfolio.taskmanagement.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.portfolio.taskmanagement.dto.BulkTaskResultDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateResultDTO;
+import com.portfolio.taskmanagement.dto.TaskChangesDTO;
+import com.portfolio.taskmanagement.dto.TaskCountersDTO;
 import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.TaskPageDTO;
+import com.portfolio.taskmanagement.dto.TaskPatchDTO;
+import com.portfolio.taskmanagement.dto.TaskSearchCriteria;
+import com.portfolio.taskmanagement.dto.TaskSearchResultDTO;
+import com.portfolio.taskmanagement.dto.TaskStatsDTO;
+import com.portfolio.taskmanagement.dto.TaskSyncDTO;
+import com.portfolio.taskmanagement.exception.BadRequestException;
+import com.portfolio.taskmanagement.exception.PreconditionFailedException;
 import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.security.CurrentUserId;
+import com.portfolio.taskmanagement.service.TaskChangeFeed;
 import com.portfolio.taskmanagement.service.TaskService;
+import com.portfolio.taskmanagement.service.TaskSyncService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -22,37 +59,177 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskSyncService taskSyncService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @Operation(summary = "Get all tasks for a user")
-    public ResponseEntity<List<TaskDTO>> getAllTasks(@RequestParam Long userId) {
-        return ResponseEntity.ok(taskService.getAllTasksForUser(userId));
+    public ResponseEntity<List<TaskDTO>> getAllTasks(@CurrentUserId Long userId, WebRequest request) {
+        return conditionalTaskList(userId, request, () -> taskService.getAllTasksForUser(userId));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of tasks for a user using an opaque keyset cursor")
+    public ResponseEntity<TaskPageDTO> getTaskPage(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(taskService.getTaskPage(userId, cursor, size));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks by any combination of status, priority, category, tags, due range and text")
+    public ResponseEntity<TaskSearchResultDTO> searchTasks(
+            @CurrentUserId Long userId,
+            @ModelAttribute TaskSearchCriteria criteria,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> sort,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(taskService.searchTasks(userId, criteria, page, size, sort, count));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get task counts by status, priority, category and tag, overdue tasks and daily completions")
+    public ResponseEntity<TaskStatsDTO> getTaskStats(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(taskService.getTaskStats(userId, from, to));
+    }
+
+    @GetMapping("/counters")
+    @Operation(summary = "Get badge counts of a user's tasks by status and priority")
+    public ResponseEntity<TaskCountersDTO> getTaskCounters(@CurrentUserId Long userId) {
+        return ResponseEntity.ok(taskService.getTaskCounters(userId));
+    }
+
+    @GetMapping("/stream")
+    @Operation(summary = "Stream all tasks for a user as a JSON array")
+    public ResponseEntity<StreamingResponseBody> streamAllTasks(@CurrentUserId Long userId) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                taskService.streamTasksForUser(userId, task -> {
+                    try {
+                        generator.writeObject(task);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/sync")
+    @Operation(summary = "Get tasks changed and deleted since a sync token")
+    public ResponseEntity<TaskSyncDTO> syncTasks(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok(taskSyncService.sync(userId, since, size));
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream a user's task changes as server-sent events, resuming after Last-Event-ID")
+    public SseEmitter streamTaskChanges(
+            @CurrentUserId Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since) {
+        return taskChangeFeed.subscribe(userId, lastEventId != null ? lastEventId : since);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Long-poll a user's task changes after a sequence")
+    public DeferredResult<TaskChangesDTO> pollTaskChanges(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) Long since) {
+        return taskChangeFeed.poll(userId, since);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id, @RequestParam Long userId) {
-        return ResponseEntity.ok(taskService.getTaskById(id, userId));
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id, @CurrentUserId Long userId) {
+        TaskDTO task = taskService.getTaskById(id, userId);
+        return ResponseEntity.ok().eTag(eTag(task)).body(task);
     }
 
     @PostMapping
     @Operation(summary = "Create a new task")
-    public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO taskDTO, @RequestParam Long userId) {
-        return new ResponseEntity<>(taskService.createTask(taskDTO, userId), HttpStatus.CREATED);
+    public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO taskDTO, @CurrentUserId Long userId) {
+        TaskDTO task = taskService.createTask(taskDTO, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(task)).body(task);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create many tasks from a JSON array",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class)))))
+    public ResponseEntity<BulkTaskResultDTO> createTasks(HttpServletRequest request, @CurrentUserId Long userId)
+            throws IOException {
+        List<TaskDTO> taskDTOs;
+        try (JsonParser parser = objectMapper.createParser(request.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Expected a JSON array of tasks");
+            }
+            taskDTOs = readBulkTasks(parser);
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Malformed JSON at line " + ex.getLocation().getLineNr()
+                    + ": " + ex.getOriginalMessage());
+        }
+        return ResponseEntity.ok(taskService.createTasks(taskDTOs, userId));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Create many tasks from newline-delimited JSON")
+    public ResponseEntity<BulkTaskResultDTO> createTasksFromNdjson(HttpServletRequest request, @CurrentUserId Long userId)
+            throws IOException {
+        List<TaskDTO> taskDTOs;
+        try (JsonParser parser = objectMapper.createParser(request.getInputStream())) {
+            taskDTOs = readBulkTasks(parser);
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Malformed NDJSON at line " + ex.getLocation().getLineNr()
+                    + ": " + ex.getOriginalMessage());
+        }
+        return ResponseEntity.ok(taskService.createTasks(taskDTOs, userId));
+    }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "Change status, priority or category of many tasks in one statement")
+    public ResponseEntity<BulkTaskUpdateResultDTO> updateTasks(
+            @RequestBody BulkTaskUpdateDTO update,
+            @CurrentUserId Long userId) {
+        return ResponseEntity.ok(taskService.updateTasks(update, userId));
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update an existing task")
+    @Operation(summary = "Update an existing task, optionally only if its ETag still matches If-Match")
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable Long id,
             @Valid @RequestBody TaskDTO taskDTO,
-            @RequestParam Long userId) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskDTO, userId));
+            @CurrentUserId Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO task = taskService.updateTask(id, taskDTO, userId, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(task)).body(task);
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Change only the given fields of a task, optionally only if its ETag still matches If-Match")
+    public ResponseEntity<TaskDTO> patchTask(
+            @PathVariable Long id,
+            @RequestBody TaskPatchDTO patch,
+            @CurrentUserId Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO task = taskService.patchTask(id, patch, userId, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(task)).body(task);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a task")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @RequestParam Long userId) {
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @CurrentUserId Long userId) {
         taskService.deleteTask(id, userId);
         return ResponseEntity.noContent().build();
     }
@@ -61,32 +238,89 @@ public class TaskController {
     @Operation(summary = "Get tasks by status")
     public ResponseEntity<List<TaskDTO>> getTasksByStatus(
             @PathVariable Task.Status status,
-            @RequestParam Long userId) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(userId, status));
+            @CurrentUserId Long userId,
+            WebRequest request) {
+        return conditionalTaskList(userId, request, () -> taskService.getTasksByStatus(userId, status));
     }
 
     @GetMapping("/priority/{priority}")
     @Operation(summary = "Get tasks by priority")
     public ResponseEntity<List<TaskDTO>> getTasksByPriority(
             @PathVariable Task.Priority priority,
-            @RequestParam Long userId) {
-        return ResponseEntity.ok(taskService.getTasksByPriority(userId, priority));
+            @CurrentUserId Long userId,
+            WebRequest request) {
+        return conditionalTaskList(userId, request, () -> taskService.getTasksByPriority(userId, priority));
     }
 
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "Get tasks by category")
     public ResponseEntity<List<TaskDTO>> getTasksByCategory(
             @PathVariable Long categoryId,
-            @RequestParam Long userId) {
-        return ResponseEntity.ok(taskService.getTasksByCategory(userId, categoryId));
+            @CurrentUserId Long userId,
+            WebRequest request) {
+        return conditionalTaskList(userId, request, () -> taskService.getTasksByCategory(userId, categoryId));
+    }
+
+    @GetMapping("/tag/{tagId}")
+    @Operation(summary = "Get tasks by tag")
+    public ResponseEntity<List<TaskDTO>> getTasksByTag(
+            @PathVariable Long tagId,
+            @CurrentUserId Long userId,
+            WebRequest request) {
+        return conditionalTaskList(userId, request, () -> taskService.getTasksByTag(userId, tagId));
     }
 
     @GetMapping("/due-between")
     @Operation(summary = "Get tasks due between dates")
     public ResponseEntity<List<TaskDTO>> getTasksDueBetween(
-            @RequestParam Long userId,
+            @CurrentUserId Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
         return ResponseEntity.ok(taskService.getTasksDueBetween(userId, start, end));
     }
+
+    private static String eTag(TaskDTO task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    // Task ETags are strong, so a weak or malformed If-Match can never match; "*" matches any existing task
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // Falls through to the failed precondition
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the task's ETag");
+    }
+
+    private ResponseEntity<List<TaskDTO>> conditionalTaskList(Long userId, WebRequest request,
+                                                              Supplier<List<TaskDTO>> tasks) {
+        // The ETag only depends on the user's task version, so an unchanged poll never reaches the database
+        String eTag = taskService.getTaskListETag(userId);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(tasks.get());
+    }
+
+    // Reads one task at a time up to the end of the array or input, stopping at the first task past the limit so an
+    // oversized body is rejected before it is read in full; a null item stays null for the service to report
+    private List<TaskDTO> readBulkTasks(JsonParser parser) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(TaskDTO.class);
+        List<TaskDTO> taskDTOs = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY;
+             token = parser.nextToken()) {
+            if (taskDTOs.size() == TaskService.MAX_BULK_SIZE) {
+                throw new BadRequestException("Bulk requests are limited to " + TaskService.MAX_BULK_SIZE + " tasks");
+            }
+            taskDTOs.add(reader.readValue(parser));
+        }
+        return taskDTOs;
+    }
 }
@@ -10,11 +10,16 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
     private String token;
     private String type = "Bearer";
+    // Seconds until the access token expires
+    private long expiresIn;
+    private String refreshToken;
     private Long userId;
     private String username;
 
-    public AuthResponse(String token, Long userId, String username) {
+    public AuthResponse(String token, long expiresIn, String refreshToken, Long userId, String username) {
         this.token = token;
+        this.expiresIn = expiresIn;
+        this.refreshToken = refreshToken;
         this.userId = userId;
         this.username = username;
     }
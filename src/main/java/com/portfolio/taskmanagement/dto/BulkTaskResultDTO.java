@@ -0,0 +1,19 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResultDTO {
+
+    private int created;
+
+    private int failed;
+
+    private List<BulkTaskItemResultDTO> items;
+}
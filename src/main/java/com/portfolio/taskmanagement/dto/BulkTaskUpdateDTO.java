@@ -0,0 +1,30 @@
+package com.portfolio.taskmanagement.dto;
+
+import com.portfolio.taskmanagement.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateDTO {
+
+    // Selection: explicit ids and/or filters on the current values, always scoped to the user
+    private List<Long> ids;
+
+    private List<Task.Status> currentStatuses;
+
+    private List<Task.Priority> currentPriorities;
+
+    private Long currentCategoryId;
+
+    // Changes: only non-null fields are written
+    private Task.Status status;
+
+    private Task.Priority priority;
+
+    private Long categoryId;
+}
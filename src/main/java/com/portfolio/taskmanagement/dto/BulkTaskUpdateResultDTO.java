@@ -0,0 +1,13 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateResultDTO {
+
+    private int updated;
+}
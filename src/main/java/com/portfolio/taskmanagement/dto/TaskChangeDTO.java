@@ -0,0 +1,30 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeDTO {
+
+    // Increases with every change; clients resume from the last sequence they processed
+    private long sequence;
+
+    private Type type;
+
+    // Null for RESET
+    private Long taskId;
+
+    // Only set for CREATED and UPDATED
+    private TaskDTO task;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        // The client has to reload its tasks: it fell too far behind, or many tasks changed at once
+        RESET
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+
+    private List<TaskChangeDTO> changes;
+
+    // Pass as since in the next poll
+    private long lastSequence;
+
+    // The changes since the requested sequence are no longer known; reload the tasks before continuing
+    private boolean reset;
+}
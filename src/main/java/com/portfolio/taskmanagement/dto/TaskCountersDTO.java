@@ -0,0 +1,20 @@
+package com.portfolio.taskmanagement.dto;
+
+import com.portfolio.taskmanagement.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountersDTO {
+
+    private long total;
+
+    private Map<Task.Status, Long> byStatus;
+
+    private Map<Task.Priority, Long> byPriority;
+}
@@ -41,4 +41,6 @@ public class TaskDTO {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
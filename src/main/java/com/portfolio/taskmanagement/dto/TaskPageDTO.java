@@ -0,0 +1,21 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDTO {
+
+    private List<TaskDTO> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.portfolio.taskmanagement.dto;
+
+import com.portfolio.taskmanagement.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Partial task update. A null field was left out of the request and stays unchanged; an empty Optional was
+ * sent as JSON null and clears the field. Tags are changed through a full update.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPatchDTO {
+
+    private Optional<String> title;
+
+    private Optional<String> description;
+
+    private Optional<Task.Status> status;
+
+    private Optional<Task.Priority> priority;
+
+    private Optional<LocalDateTime> dueDate;
+
+    private Optional<Long> categoryId;
+}
@@ -0,0 +1,36 @@
+package com.portfolio.taskmanagement.dto;
+
+import com.portfolio.taskmanagement.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchCriteria {
+
+    private Set<Task.Status> status;
+
+    private Set<Task.Priority> priority;
+
+    private Long categoryId;
+
+    private Set<Long> tagId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    // Ranked full-text query over title and description
+    private String q;
+
+    // Plain substring filter over title and description
+    private String text;
+}
@@ -0,0 +1,24 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDTO {
+
+    private List<TaskDTO> content;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasNext;
+
+    // Null when the client asked to skip the count query
+    private Long totalElements;
+}
@@ -0,0 +1,54 @@
+package com.portfolio.taskmanagement.dto;
+
+import com.portfolio.taskmanagement.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    private long total;
+
+    private Map<Task.Status, Long> byStatus;
+
+    private Map<Task.Priority, Long> byPriority;
+
+    private List<GroupCount> byCategory;
+
+    private List<GroupCount> byTag;
+
+    // Tasks past their due date that are neither completed nor archived
+    private long overdue;
+
+    private List<DailyCount> completedPerDay;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GroupCount {
+
+        // Null for tasks without a category
+        private Long id;
+
+        private String name;
+
+        private long count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyCount {
+
+        private LocalDate date;
+
+        private long count;
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSyncDTO {
+
+    // Tasks created or updated since the token, in the order they changed
+    private List<TaskDTO> changed;
+
+    // Ids of tasks deleted since the token
+    private List<Long> deleted;
+
+    // Pass as since in the next sync
+    private String nextToken;
+
+    // More changes are waiting; sync again right away with nextToken
+    private boolean hasMore;
+
+    // No usable token was given; reload all tasks, then sync from nextToken
+    private boolean reset;
+}
@@ -0,0 +1,25 @@
+package com.portfolio.taskmanagement.event;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.portfolio.taskmanagement.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox event as handed to an {@link OutboxSink}. The id increases with every event and lets consumers
+ * drop the duplicates that at-least-once delivery can produce.
+ */
+public record OutboxMessage(
+        long id,
+        OutboxEvent.AggregateType aggregateType,
+        long aggregateId,
+        OutboxEvent.EventType eventType,
+        Long userId,
+        @JsonRawValue String payload,
+        LocalDateTime occurredAt) {
+
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getUserId(), event.getPayload(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.taskmanagement.event;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events, chosen with {@code outbox.sink}. Set it to any other value and
+ * declare an {@code OutboxSink} bean to publish to a broker instead.
+ * <p>
+ * {@link #publish} must return only once every message is stored durably. If it throws, the batch stays in
+ * the outbox and is offered again, possibly with messages that were already stored.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,37 @@
+package com.portfolio.taskmanagement.event;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+
+import java.util.List;
+
+/**
+ * Published by {@code TaskService} inside the writing transaction; listeners that maintain derived state
+ * should use {@code @TransactionalEventListener} so they only see committed changes.
+ * Deletions carry only the task ids, bulk updates carry neither ids nor tasks because the statement
+ * does not report which rows it changed, and everything else carries the tasks as written.
+ */
+public record TaskChangeEvent(Type type, Long userId, List<Long> taskIds, List<TaskDTO> tasks) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        BULK_UPDATED
+    }
+
+    public static TaskChangeEvent created(Long userId, List<TaskDTO> tasks) {
+        return new TaskChangeEvent(Type.CREATED, userId, tasks.stream().map(TaskDTO::getId).toList(), tasks);
+    }
+
+    public static TaskChangeEvent updated(Long userId, TaskDTO task) {
+        return new TaskChangeEvent(Type.UPDATED, userId, List.of(task.getId()), List.of(task));
+    }
+
+    public static TaskChangeEvent bulkUpdated(Long userId) {
+        return new TaskChangeEvent(Type.BULK_UPDATED, userId, List.of(), List.of());
+    }
+
+    public static TaskChangeEvent deleted(Long userId, Long taskId) {
+        return new TaskChangeEvent(Type.DELETED, userId, List.of(taskId), List.of());
+    }
+}
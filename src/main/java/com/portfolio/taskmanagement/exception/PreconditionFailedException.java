@@ -0,0 +1,7 @@
+package com.portfolio.taskmanagement.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.taskmanagement.metrics;
+
+import com.portfolio.taskmanagement.exception.BadRequestException;
+import com.portfolio.taskmanagement.exception.DuplicateResourceException;
+import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Tag values shared by the application meters, matching the uri and outcome tags of http.server.requests so
+ * the layers of one endpoint can be lined up.
+ */
+final class MetricTags {
+
+    static final String NONE = "none";
+
+    private MetricTags() {
+    }
+
+    // The route template of the current request, or none for scheduled and async work
+    static String uri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NONE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : NONE;
+    }
+
+    // The route template once the request has been handled, or UNKNOWN when no handler matched
+    static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    static String outcome(Throwable error) {
+        if (error == null) {
+            return "SUCCESS";
+        }
+        if (error instanceof ResourceNotFoundException || error instanceof DuplicateResourceException
+                || error instanceof BadRequestException) {
+            return "CLIENT_ERROR";
+        }
+        return "SERVER_ERROR";
+    }
+
+    static String exception(Throwable error) {
+        return error == null ? NONE : error.getClass().getSimpleName();
+    }
+}
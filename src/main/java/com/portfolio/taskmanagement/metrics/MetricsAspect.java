@@ -0,0 +1,89 @@
+package com.portfolio.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Times every public service call and every task query, tagged by the endpoint that made it, so slow
+ * requests can be split into time spent in the database and time spent around it.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.portfolio.taskmanagement.service.TaskService.*(..))"
+            + " || execution(public * com.portfolio.taskmanagement.service.UserService.*(..))"
+            + " || execution(public * com.portfolio.taskmanagement.service.CategoryService.*(..))"
+            + " || execution(public * com.portfolio.taskmanagement.service.TagService.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("service.calls", joinPoint, false);
+    }
+
+    @Around("this(com.portfolio.taskmanagement.repository.TaskRepository)")
+    public Object timeTaskQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("task.repository.queries", joinPoint, true);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint, boolean countRows) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String uri = MetricTags.uri();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+        try {
+            Object result = joinPoint.proceed();
+            if (countRows) {
+                recordRows(method, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .tag("outcome", MetricTags.outcome(error))
+                    .tag("exception", MetricTags.exception(error))
+                    .register(meterRegistry));
+        }
+    }
+
+    // Counts, deletes and streams are left out; a stream's size is unknown until the caller has consumed it
+    private void recordRows(String method, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else if (result == null || result instanceof Number || result instanceof Boolean
+                || result instanceof Stream<?>) {
+            return;
+        } else {
+            rows = 1;
+        }
+        DistributionSummary.builder("task.repository.rows")
+                .baseUnit("rows")
+                .tag("method", method)
+                .serviceLevelObjectives(1, 10, 50, 100, 500, 1000, 10000)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
@@ -0,0 +1,114 @@
+package com.portfolio.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Records the SQL statements run while handling each request as http.server.statements and, outside prod,
+ * as a response header. Work handed to other threads, such as streamed bodies and async results, is not
+ * counted.
+ */
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+
+    public SqlStatementCountFilter(SqlStatementCounter statementCounter, MeterRegistry meterRegistry,
+                                   boolean headerEnabled) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        StatementCountResponse countingResponse = headerEnabled ? new StatementCountResponse(response) : null;
+        try {
+            chain.doFilter(request, countingResponse != null ? countingResponse : response);
+        } finally {
+            if (countingResponse != null) {
+                countingResponse.writeHeader();
+            }
+            long statements = statementCounter.stop();
+            DistributionSummary.builder("http.server.statements")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", MetricTags.uri(request))
+                    .tag("outcome", Outcome.forStatus(response.getStatus()).name())
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    // Headers can only be added until the body starts, so the count is taken just before that
+    private class StatementCountResponse extends HttpServletResponseWrapper {
+
+        private boolean headerWritten;
+
+        StatementCountResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeader() {
+            if (!headerWritten) {
+                headerWritten = true;
+                if (!isCommitted()) {
+                    setHeader(HEADER, Long.toString(statementCounter.current()));
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
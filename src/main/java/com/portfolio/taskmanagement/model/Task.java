@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,14 +15,32 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_user_id_id", columnList = "user_id, id"),
+    @Index(name = "idx_tasks_user_status", columnList = "user_id, status"),
+    @Index(name = "idx_tasks_user_priority", columnList = "user_id, priority"),
+    @Index(name = "idx_tasks_user_category", columnList = "user_id, category_id"),
+    @Index(name = "idx_tasks_user_due_date", columnList = "user_id, due_date"),
+    @Index(name = "idx_tasks_user_updated_at", columnList = "user_id, updated_at"),
+    @Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at"),
+    @Index(name = "idx_tasks_category_id", columnList = "category_id")
+})
+@NamedEntityGraph(name = Task.DETAILS_GRAPH, attributeNodes = {
+    @NamedAttributeNode("category"),
+    @NamedAttributeNode("tags")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    public static final String DETAILS_GRAPH = "Task.details";
+
+    public static final String TAGS_CACHE_REGION = "task-tags";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -48,10 +69,13 @@ public class Task {
     private Category category;
 
     @ManyToMany
+    @BatchSize(size = 500)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.TAGS_CACHE_REGION)
     @JoinTable(
         name = "task_tags",
         joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "tag_id")
+        inverseJoinColumns = @JoinColumn(name = "tag_id"),
+        indexes = @Index(name = "idx_task_tags_tag_task", columnList = "tag_id, task_id")
     )
     private List<Tag> tags = new ArrayList<>();
 
@@ -63,6 +87,11 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Incremented by every write, bulk updates included; clients see it as the task's ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public enum Status {
         TODO, IN_PROGRESS, COMPLETED, ARCHIVED
     }
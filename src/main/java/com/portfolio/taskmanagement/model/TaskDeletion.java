@@ -0,0 +1,32 @@
+package com.portfolio.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone of a deleted task, kept for a while so syncing clients learn about the deletion.
+ * Written by {@code TaskSyncService} in the transaction that deletes the task.
+ */
+@Entity
+@Table(name = "task_deletions", indexes = {
+    @Index(name = "idx_task_deletions_user_deleted_at", columnList = "user_id, deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeletion {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
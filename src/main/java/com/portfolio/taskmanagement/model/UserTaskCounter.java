@@ -0,0 +1,44 @@
+package com.portfolio.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Number of tasks a user has in one status and priority, maintained by {@code TaskCounterService}
+ * in the transaction that changes the tasks.
+ */
+@Entity
+@Table(name = "user_task_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id", nullable = false)
+        private Long userId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false)
+        private Task.Status status;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false)
+        private Task.Priority priority;
+    }
+}
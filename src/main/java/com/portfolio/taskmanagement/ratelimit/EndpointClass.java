@@ -0,0 +1,22 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Groups endpoints that share a quota, so a client flooding bulk writes does not also lose its reads.
+ */
+public enum EndpointClass {
+    READ,
+    WRITE,
+    BULK;
+
+    public static EndpointClass of(HttpServletRequest request) {
+        if (request.getRequestURI().endsWith("/bulk")) {
+            return BULK;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
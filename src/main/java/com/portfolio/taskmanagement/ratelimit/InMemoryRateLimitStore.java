@@ -0,0 +1,64 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps each bucket as a single timestamp, the time at which it will be full again (the generic cell rate
+ * algorithm), so taking a token is one compare-and-set without locks. Buckets idle for longer than
+ * {@code rate-limit.memory.expire-after} are dropped, which is harmless once they have refilled.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryRateLimitStore(
+            @Value("${rate-limit.memory.max-keys:100000}") long maxKeys,
+            @Value("${rate-limit.memory.expire-after:PT5M}") Duration expireAfter,
+            MeterRegistry meterRegistry) {
+        this(maxKeys, expireAfter, System::nanoTime);
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    InMemoryRateLimitStore(long maxKeys, Duration expireAfter, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(expireAfter)
+                .recordStats()
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimit limit) {
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        long interval = limit.intervalNanos();
+        long tolerance = interval * limit.capacity();
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
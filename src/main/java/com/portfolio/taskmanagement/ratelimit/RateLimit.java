@@ -0,0 +1,17 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+/**
+ * A token bucket holding up to {@code capacity} requests and refilled at {@code perSecond} requests per second.
+ */
+public record RateLimit(long capacity, double perSecond) {
+
+    public RateLimit {
+        if (capacity < 1 || perSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit needs a capacity of at least 1 and a positive rate");
+        }
+    }
+
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / perSecond);
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.exception.GlobalExceptionHandler;
+import com.portfolio.taskmanagement.security.AuthenticatedUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the task API quotas before a request reaches the controllers, keyed by the token's user, else the
+ * {@code userId} parameter, else the client address. Runs after the JWT filter so the token's user is known, but
+ * before authorization, so while tokens are required the {@code userId} of a request without one is not trusted.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean tokenRequired;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, boolean tokenRequired) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.tokenRequired = tokenRequired;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !rateLimiter.isEnabled()
+                || !(path.startsWith("/api/tasks") || path.startsWith("/api/reactive/tasks"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long wait = rateLimiter.tryAcquire(subject(request), EndpointClass.of(request));
+        if (wait == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new GlobalExceptionHandler.ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded, retry in " + retryAfterSeconds + "s",
+                LocalDateTime.now()));
+    }
+
+    private String subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "user:" + user.id();
+        }
+        String userId = tokenRequired ? null : request.getParameter("userId");
+        if (userId != null && !userId.isEmpty() && userId.chars().allMatch(Character::isDigit)) {
+            return "user:" + userId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+/**
+ * Holds the token buckets, chosen with {@code rate-limit.store}. The default keeps them in memory, so each
+ * instance enforces its own quota; set it to any other value and declare a {@code RateLimitStore} bean backed
+ * by shared storage to enforce one quota across instances.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes a token from the bucket under {@code key}, creating a full bucket if there is none. Returns 0 when
+     * a token was taken, otherwise the nanoseconds until one will be available.
+     */
+    long tryConsume(String key, RateLimit limit);
+}
@@ -0,0 +1,57 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+public class RateLimiter {
+
+    private final RateLimitStore store;
+    private final boolean enabled;
+    private final Map<EndpointClass, RateLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> throttled = new EnumMap<>(EndpointClass.class);
+
+    public RateLimiter(
+            RateLimitStore store,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.read.capacity:100}") long readCapacity,
+            @Value("${rate-limit.read.per-second:50}") double readPerSecond,
+            @Value("${rate-limit.write.capacity:30}") long writeCapacity,
+            @Value("${rate-limit.write.per-second:10}") double writePerSecond,
+            @Value("${rate-limit.bulk.capacity:5}") long bulkCapacity,
+            @Value("${rate-limit.bulk.per-second:1}") double bulkPerSecond,
+            MeterRegistry meterRegistry) {
+        this.store = store;
+        this.enabled = enabled;
+        limits.put(EndpointClass.READ, new RateLimit(readCapacity, readPerSecond));
+        limits.put(EndpointClass.WRITE, new RateLimit(writeCapacity, writePerSecond));
+        limits.put(EndpointClass.BULK, new RateLimit(bulkCapacity, bulkPerSecond));
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            throttled.put(endpointClass, Counter.builder("http.server.requests.throttled")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("class", endpointClass.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes a token from the caller's bucket for the endpoint class. Returns 0 when the request may proceed,
+     * otherwise the nanoseconds until it may be retried.
+     */
+    public long tryAcquire(String subject, EndpointClass endpointClass) {
+        long wait = store.tryConsume(subject + ":" + endpointClass.name().toLowerCase(), limits.get(endpointClass));
+        if (wait > 0) {
+            throttled.get(endpointClass).increment();
+        }
+        return wait;
+    }
+}
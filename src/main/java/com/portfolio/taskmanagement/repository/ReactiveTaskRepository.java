@@ -0,0 +1,151 @@
+package com.portfolio.taskmanagement.repository;
+
+import com.portfolio.taskmanagement.model.Category;
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking task reads over R2DBC, returning the same queries as the {@link TaskRepository} finders.
+ * <p>
+ * Each query joins the category and tags and orders rows by task, so a task's rows arrive together and
+ * are folded into one detached {@link Task} as the result streams; nothing is buffered beyond one task
+ * and demand from the subscriber flows back to the database cursor.
+ * <p>
+ * The connection pool is owned here rather than exposed as a {@code ConnectionFactory} bean, because
+ * Spring Boot skips the JDBC {@code DataSource} that JPA runs on once such a bean exists.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final String SELECT_TASKS = "SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date, "
+            + "t.created_at, t.updated_at, t.version, c.id AS category_id, c.name AS category_name, g.id AS tag_id, g.name AS tag_name "
+            + "FROM tasks t "
+            + "LEFT JOIN categories c ON c.id = t.category_id "
+            + "LEFT JOIN task_tags tt ON tt.task_id = t.id "
+            + "LEFT JOIN tags g ON g.id = tt.tag_id "
+            + "WHERE t.user_id = :userId";
+
+    private static final String ORDER_BY = " ORDER BY t.id, g.id";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTaskRepository(
+            @Value("${spring.r2dbc.url}") String url,
+            @Value("${spring.r2dbc.username:}") String username,
+            @Value("${spring.r2dbc.password:}") String password,
+            @Value("${spring.r2dbc.pool.max-size:10}") int maxPoolSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username)
+                    .option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(maxPoolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public Flux<Task> findByUserId(Long userId) {
+        return query("", Map.of("userId", userId));
+    }
+
+    public Flux<Task> findByUserIdAndStatus(Long userId, Task.Status status) {
+        return query(" AND t.status = :status", Map.of("userId", userId, "status", status.name()));
+    }
+
+    public Flux<Task> findByUserIdAndPriority(Long userId, Task.Priority priority) {
+        return query(" AND t.priority = :priority", Map.of("userId", userId, "priority", priority.name()));
+    }
+
+    public Flux<Task> findByUserIdAndCategoryId(Long userId, Long categoryId) {
+        return query(" AND t.category_id = :categoryId", Map.of("userId", userId, "categoryId", categoryId));
+    }
+
+    public Flux<Task> findByUserIdAndTagId(Long userId, Long tagId) {
+        // EXISTS keeps all of a matching task's tags in the result, not only the one filtered on
+        return query(" AND EXISTS (SELECT 1 FROM task_tags f WHERE f.task_id = t.id AND f.tag_id = :tagId)",
+                Map.of("userId", userId, "tagId", tagId));
+    }
+
+    public Flux<Task> findTasksByUserAndDueDateBetween(Long userId, LocalDateTime start, LocalDateTime end) {
+        return query(" AND t.due_date BETWEEN :start AND :end", Map.of("userId", userId, "start", start, "end", end));
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    private Flux<Task> query(String condition, Map<String, Object> parameters) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(SELECT_TASKS + condition + ORDER_BY);
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map((row, metadata) -> toTaskRow(row))
+                .all()
+                .bufferUntilChanged(TaskRow::task, (previous, next) -> previous.getId().equals(next.getId()))
+                .map(ReactiveTaskRepository::toTask);
+    }
+
+    private static TaskRow toTaskRow(Row row) {
+        Task task = new Task();
+        task.setId(row.get("id", Long.class));
+        task.setTitle(row.get("title", String.class));
+        task.setDescription(row.get("description", String.class));
+        task.setStatus(Task.Status.valueOf(row.get("status", String.class)));
+        task.setPriority(Task.Priority.valueOf(row.get("priority", String.class)));
+        task.setDueDate(row.get("due_date", LocalDateTime.class));
+        task.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        task.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        task.setVersion(row.get("version", Long.class));
+
+        Long categoryId = row.get("category_id", Long.class);
+        if (categoryId != null) {
+            Category category = new Category();
+            category.setId(categoryId);
+            category.setName(row.get("category_name", String.class));
+            task.setCategory(category);
+        }
+
+        Long tagId = row.get("tag_id", Long.class);
+        Tag tag = null;
+        if (tagId != null) {
+            tag = new Tag();
+            tag.setId(tagId);
+            tag.setName(row.get("tag_name", String.class));
+        }
+        return new TaskRow(task, tag);
+    }
+
+    private static Task toTask(List<TaskRow> rows) {
+        Task task = rows.get(0).task();
+        List<Tag> tags = new ArrayList<>(rows.size());
+        for (TaskRow row : rows) {
+            if (row.tag() != null) {
+                tags.add(row.tag());
+            }
+        }
+        task.setTags(tags);
+        return task;
+    }
+
+    private record TaskRow(Task task, Tag tag) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.taskmanagement.repository;
+
+import com.portfolio.taskmanagement.model.TaskDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskDeletionRepository extends JpaRepository<TaskDeletion, Long> {
+
+    // Same keyset as TaskRepository.findChangedAfter
+    @Query("SELECT d FROM TaskDeletion d WHERE d.userId = :userId AND d.deletedAt >= :after "
+            + "AND (d.deletedAt > :after OR d.taskId > :afterId) ORDER BY d.deletedAt, d.taskId")
+    List<TaskDeletion> findDeletedAfter(
+        @Param("userId") Long userId,
+        @Param("after") LocalDateTime after,
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    @Modifying
+    @Query("DELETE FROM TaskDeletion d WHERE d.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM TaskDeletion d WHERE d.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
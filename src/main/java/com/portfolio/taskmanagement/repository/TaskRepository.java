@@ -1,21 +1,46 @@
 package com.portfolio.taskmanagement.repository;
 
 import com.portfolio.taskmanagement.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    @EntityGraph(Task.DETAILS_GRAPH)
+    Optional<Task> findWithDetailsById(Long id);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, t.version AS version FROM Task t "
+            + "WHERE t.id = :id AND t.user.id = :userId")
+    Optional<TaskState> findStateByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @EntityGraph(Task.DETAILS_GRAPH)
     List<Task> findByUserId(Long userId);
+
+    @EntityGraph(Task.DETAILS_GRAPH)
     List<Task> findByUserIdAndStatus(Long userId, Task.Status status);
+
+    @EntityGraph(Task.DETAILS_GRAPH)
     List<Task> findByUserIdAndPriority(Long userId, Task.Priority priority);
+
+    @EntityGraph(Task.DETAILS_GRAPH)
     List<Task> findByUserIdAndCategoryId(Long userId, Long categoryId);
 
+    @EntityGraph(Task.DETAILS_GRAPH)
     @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.dueDate BETWEEN :start AND :end")
     List<Task> findTasksByUserAndDueDateBetween(
         @Param("userId") Long userId,
@@ -23,6 +48,128 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         @Param("end") LocalDateTime end
     );
 
+    @EntityGraph(Task.DETAILS_GRAPH)
     @Query("SELECT t FROM Task t JOIN t.tags tag WHERE t.user.id = :userId AND tag.id = :tagId")
     List<Task> findByUserIdAndTagId(@Param("userId") Long userId, @Param("tagId") Long tagId);
+
+    // Tags are not fetch-joined here so the row limit stays in SQL; they are batch-loaded for the whole page instead.
+    // Pages follow (createdAt, id): ids come from per-node sequence pools, so id order is not insertion order
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId ORDER BY t.createdAt, t.id")
+    List<Task> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.createdAt >= :after "
+            + "AND (t.createdAt > :after OR t.id > :afterId) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByUserIdAfter(@Param("userId") Long userId, @Param("after") LocalDateTime after,
+                                     @Param("afterId") Long afterId, Limit limit);
+
+    // Keyset over (updatedAt, id) so tasks sharing a timestamp are neither skipped nor repeated across pages;
+    // the leading >= gives the (user_id, updated_at) index a range to scan
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.updatedAt >= :after "
+            + "AND (t.updatedAt > :after OR t.id > :afterId) ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedAfter(
+        @Param("userId") Long userId,
+        @Param("after") LocalDateTime after,
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    // Tags are left to their batch fetch; joining a collection into a forward-only scroll splits a task over rows
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId ORDER BY t.id")
+    Stream<Task> streamByUserId(@Param("userId") Long userId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS id, t.user.id AS userId, t.title AS title, t.description AS description FROM Task t")
+    Stream<TaskText> streamAllText();
+
+    // Status and priority together make at most 16 groups, from which totals and overdue counts are derived
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS count, "
+            + "SUM(CASE WHEN t.dueDate < :now THEN 1 ELSE 0 END) AS overdue "
+            + "FROM Task t WHERE t.user.id = :userId GROUP BY t.status, t.priority")
+    List<StatusPriorityCount> countByStatusAndPriority(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.user.id AS userId, t.status AS status, t.priority AS priority, COUNT(t) AS count "
+            + "FROM Task t WHERE t.user.id IN :userIds GROUP BY t.user.id, t.status, t.priority")
+    List<UserStatusPriorityCount> countByUserStatusAndPriority(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT c.id AS id, c.name AS name, COUNT(t) AS count "
+            + "FROM Task t LEFT JOIN t.category c WHERE t.user.id = :userId GROUP BY c.id, c.name")
+    List<GroupCount> countByCategory(@Param("userId") Long userId);
+
+    @Query("SELECT tag.id AS id, tag.name AS name, COUNT(t) AS count "
+            + "FROM Task t JOIN t.tags tag WHERE t.user.id = :userId GROUP BY tag.id, tag.name")
+    List<GroupCount> countByTag(@Param("userId") Long userId);
+
+    // There is no status-change timestamp, so a task is counted on the day it was last updated
+    @Query("SELECT CAST(t.updatedAt AS LocalDate) AS day, COUNT(t) AS count FROM Task t "
+            + "WHERE t.user.id = :userId AND t.status = :status AND t.updatedAt >= :start AND t.updatedAt < :end "
+            + "GROUP BY CAST(t.updatedAt AS LocalDate)")
+    List<DayCount> countByStatusPerDay(
+        @Param("userId") Long userId,
+        @Param("status") Task.Status status,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+
+    interface StatusPriorityCount {
+        Task.Status getStatus();
+
+        Task.Priority getPriority();
+
+        long getCount();
+
+        long getOverdue();
+    }
+
+    interface UserStatusPriorityCount {
+        Long getUserId();
+
+        Task.Status getStatus();
+
+        Task.Priority getPriority();
+
+        long getCount();
+    }
+
+    interface GroupCount {
+        Long getId();
+
+        String getName();
+
+        long getCount();
+    }
+
+    interface DayCount {
+        LocalDate getDay();
+
+        long getCount();
+    }
+
+    interface TaskState {
+        Task.Status getStatus();
+
+        Task.Priority getPriority();
+
+        Long getVersion();
+    }
+
+    interface TaskText {
+        Long getId();
+
+        Long getUserId();
+
+        String getTitle();
+
+        String getDescription();
+    }
 }
@@ -0,0 +1,99 @@
+package com.portfolio.taskmanagement.repository;
+
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable task filters with the same semantics as the {@link TaskRepository} finders.
+ * Each method returns {@code null} when its argument is empty so callers can chain them unconditionally.
+ */
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> belongsToUser(Long userId) {
+        return (task, query, cb) -> cb.equal(task.get("user").get("id"), userId);
+    }
+
+    public static Specification<Task> hasIdIn(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return (task, query, cb) -> task.get("id").in(ids);
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<Task.Status> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return (task, query, cb) -> task.get("status").in(statuses);
+    }
+
+    public static Specification<Task> hasPriorityIn(Collection<Task.Priority> priorities) {
+        if (priorities == null || priorities.isEmpty()) {
+            return null;
+        }
+        return (task, query, cb) -> task.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> inCategory(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return (task, query, cb) -> cb.equal(task.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Task> hasAnyTag(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return null;
+        }
+        // EXISTS instead of a join so a task carrying several of the tags is returned once
+        return (task, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Task> tagged = subquery.correlate(task);
+            Join<Task, Tag> tag = tagged.join("tags");
+            subquery.select(tag.get("id")).where(tag.get("id").in(tagIds));
+            return cb.exists(subquery);
+        };
+    }
+
+    public static Specification<Task> dueBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null && end == null) {
+            return null;
+        }
+        return (task, query, cb) -> {
+            if (start == null) {
+                return cb.lessThanOrEqualTo(task.get("dueDate"), end);
+            }
+            if (end == null) {
+                return cb.greaterThanOrEqualTo(task.get("dueDate"), start);
+            }
+            return cb.between(task.get("dueDate"), start, end);
+        };
+    }
+
+    public static Specification<Task> textContains(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (task, query, cb) -> cb.or(
+                cb.like(cb.lower(task.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(task.get("description")), pattern, LIKE_ESCAPE));
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
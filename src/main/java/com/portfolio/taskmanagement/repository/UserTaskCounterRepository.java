@@ -0,0 +1,40 @@
+package com.portfolio.taskmanagement.repository;
+
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.UserTaskCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserTaskCounterRepository extends JpaRepository<UserTaskCounter, UserTaskCounter.Key> {
+    List<UserTaskCounter> findByIdUserId(Long userId);
+
+    // Relative update so concurrent writers never overwrite each other's changes
+    @Modifying
+    @Query("UPDATE UserTaskCounter c SET c.taskCount = c.taskCount + :delta "
+            + "WHERE c.id.userId = :userId AND c.id.status = :status AND c.id.priority = :priority")
+    int increment(
+        @Param("userId") Long userId,
+        @Param("status") Task.Status status,
+        @Param("priority") Task.Priority priority,
+        @Param("delta") long delta
+    );
+
+    // Same row order as TaskCounterService applies deltas in, so the two cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM UserTaskCounter c WHERE c.id.userId IN :userIds "
+            + "ORDER BY c.id.userId, c.id.status, c.id.priority")
+    List<UserTaskCounter> lockByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM UserTaskCounter c WHERE c.id.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,25 @@
+package com.portfolio.taskmanagement.security;
+
+import com.portfolio.taskmanagement.model.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+/**
+ * The principal of a request authenticated with an access token, built from the token's claims alone.
+ */
+public record AuthenticatedUser(Long id, String username, User.Role role) {
+
+    public static Optional<AuthenticatedUser> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+
+    public boolean isAdmin() {
+        return role == User.Role.ADMIN;
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.taskmanagement.security;
+
+import com.portfolio.taskmanagement.exception.BadRequestException;
+import com.portfolio.taskmanagement.exception.ForbiddenException;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUserId} parameters. An authenticated user may only name another user in
+ * {@code userId} when they are an admin.
+ */
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String USER_ID_PARAMETER = "userId";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Long requestedId = parseUserId(webRequest.getParameter(USER_ID_PARAMETER));
+
+        AuthenticatedUser user = AuthenticatedUser.current().orElse(null);
+        if (user != null) {
+            if (requestedId == null || requestedId.equals(user.id())) {
+                return user.id();
+            }
+            if (user.isAdmin()) {
+                return requestedId;
+            }
+            throw new ForbiddenException("Not allowed to act for user " + requestedId);
+        }
+
+        if (requestedId == null) {
+            throw new BadRequestException("Authentication or the userId parameter is required");
+        }
+        return requestedId;
+    }
+
+    private static Long parseUserId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid userId: " + value);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.portfolio.taskmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.portfolio.taskmanagement.exception.UnauthorizedException;
+import com.portfolio.taskmanagement.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies HMAC-signed access and refresh tokens. Verified access tokens are cached until they
+ * expire, so a client repeating its token costs a map lookup rather than a signature check. The cache is
+ * keyed by the whole token, signature included, so a tampered token can never hit it.
+ */
+@Service
+public class JwtService {
+
+    private static final String USER_ID = "uid";
+    private static final String ROLE = "role";
+    private static final String TYPE = "typ";
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long expirationMillis;
+    private final long refreshExpirationMillis;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") long expirationMillis,
+            @Value("${jwt.refresh-expiration}") long refreshExpirationMillis,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            MeterRegistry meterRegistry) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.expirationMillis = expirationMillis;
+        this.refreshExpirationMillis = refreshExpirationMillis;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, verified.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtClaims");
+    }
+
+    public String createAccessToken(User user) {
+        return createToken(user, ACCESS, expirationMillis);
+    }
+
+    public String createRefreshToken(User user) {
+        return createToken(user, REFRESH, refreshExpirationMillis);
+    }
+
+    public long getAccessTokenExpirationSeconds() {
+        return TimeUnit.MILLISECONDS.toSeconds(expirationMillis);
+    }
+
+    public AuthenticatedUser verifyAccessToken(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.user();
+        }
+        Claims claims = parse(token, ACCESS);
+        AuthenticatedUser user = new AuthenticatedUser(
+                claims.get(USER_ID, Long.class),
+                claims.getSubject(),
+                User.Role.valueOf(claims.get(ROLE, String.class)));
+        verifiedTokens.put(token, new VerifiedToken(user, claims.getExpiration().getTime()));
+        return user;
+    }
+
+    // Refresh tokens are rare and lead to a user lookup anyway, so they are not cached
+    public Long verifyRefreshToken(String token) {
+        return parse(token, REFRESH).get(USER_ID, Long.class);
+    }
+
+    private String createToken(User user, String type, long lifetimeMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(USER_ID, user.getId())
+                .claim(ROLE, user.getRole().name())
+                .claim(TYPE, type)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + lifetimeMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    private Claims parse(String token, String expectedType) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Invalid or expired token");
+        }
+        if (!expectedType.equals(claims.get(TYPE, String.class))) {
+            throw new UnauthorizedException("Invalid or expired token");
+        }
+        return claims;
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, long expiresAtMillis) {
+    }
+}
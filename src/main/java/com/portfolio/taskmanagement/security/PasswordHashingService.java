@@ -0,0 +1,145 @@
+package com.portfolio.taskmanagement.security;
+
+import com.portfolio.taskmanagement.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a burst of sign-ups or logins cannot occupy every request thread
+ * and CPU; when the queue is full callers get a 429 instead of waiting. Callers should not hold a database
+ * connection while they wait.
+ * <p>
+ * The cost factor is fixed by {@code password-hashing.cost}, or calibrated at startup to the highest cost
+ * whose hash fits {@code password-hashing.target-latency} on this machine. Calibration varies between machines
+ * and startups, so production fixes the cost.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordHashingService(
+            @Value("${password-hashing.threads:0}") int threads,
+            @Value("${password-hashing.queue-capacity:50}") int queueCapacity,
+            @Value("${password-hashing.cost:0}") int cost,
+            @Value("${password-hashing.target-latency:PT0.1S}") Duration targetLatency,
+            @Value("${password-hashing.min-cost:10}") int minCost,
+            @Value("${password-hashing.max-cost:14}") int maxCost,
+            MeterRegistry meterRegistry) {
+        this(newExecutor(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity),
+                cost > 0 ? cost : calibrate(targetLatency, minCost, maxCost), meterRegistry);
+    }
+
+    PasswordHashingService(ThreadPoolExecutor executor, int cost, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.cost = cost;
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.hashTimer = Timer.builder("password.hashing").tag("operation", "hash").register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hashing").tag("operation", "verify").register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("password.hashing.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.cost", () -> cost).register(meterRegistry);
+        log.info("Hashing passwords with BCrypt cost {}", cost);
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword), hashTimer);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword), verifyTimer);
+    }
+
+    // True when the hash was made with a lower cost factor and should be replaced on the next successful login.
+    // A higher stored cost is kept: a node that calibrated low must not weaken it, and nodes that calibrated
+    // differently must not rehash the same password back and forth
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> work, Timer timer) {
+        Timer.Sample sample = Timer.start();
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many password checks in progress, please retry shortly", 1);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Each cost step doubles the work, so one timed hash at the minimum cost is enough to extrapolate
+    static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double doublings = Math.log((double) targetLatency.toNanos() / best) / Math.log(2);
+        int cost = minCost + (int) Math.floor(Math.max(0, doublings));
+        return Math.min(cost, maxCost);
+    }
+}
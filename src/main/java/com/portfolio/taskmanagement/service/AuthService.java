@@ -0,0 +1,62 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.AuthRequest;
+import com.portfolio.taskmanagement.dto.AuthResponse;
+import com.portfolio.taskmanagement.exception.TooManyRequestsException;
+import com.portfolio.taskmanagement.exception.UnauthorizedException;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.repository.UserRepository;
+import com.portfolio.taskmanagement.security.JwtService;
+import com.portfolio.taskmanagement.security.PasswordHashingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtService jwtService;
+
+    public AuthResponse login(AuthRequest request) {
+        User user = userRepository.findByUsername(request.getUsername())
+                .filter(candidate -> passwordHashingService.matches(request.getPassword(), candidate.getPassword()))
+                .filter(User::getActive)
+                .orElseThrow(() -> new UnauthorizedException("Invalid username or password"));
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
+        return issueTokens(user);
+    }
+
+    // The user is looked up again so deleted and deactivated users cannot keep refreshing
+    public AuthResponse refresh(String refreshToken) {
+        Long userId = jwtService.verifyRefreshToken(refreshToken);
+        User user = userRepository.findById(userId)
+                .filter(User::getActive)
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired token"));
+        return issueTokens(user);
+    }
+
+    // Moves the stored hash to the current cost while the raw password is at hand; a busy pool only
+    // postpones this to a later login
+    private void rehash(User user, String rawPassword) {
+        try {
+            userRepository.updatePassword(user.getId(), passwordHashingService.hash(rawPassword));
+        } catch (TooManyRequestsException e) {
+            log.debug("Skipped rehashing the password of user {}, hashing pool is busy", user.getId());
+        }
+    }
+
+    private AuthResponse issueTokens(User user) {
+        return new AuthResponse(
+                jwtService.createAccessToken(user),
+                jwtService.getAccessTokenExpirationSeconds(),
+                jwtService.createRefreshToken(user),
+                user.getId(),
+                user.getUsername());
+    }
+}
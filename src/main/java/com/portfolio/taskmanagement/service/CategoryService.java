@@ -4,6 +4,7 @@ import com.portfolio.taskmanagement.dto.CategoryDTO;
 import com.portfolio.taskmanagement.exception.DuplicateResourceException;
 import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
 import com.portfolio.taskmanagement.model.Category;
+import com.portfolio.taskmanagement.model.OutboxEvent;
 import com.portfolio.taskmanagement.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,8 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TaskViewCache taskViewCache;
+    private final OutboxService outboxService;
 
     public List<CategoryDTO> getAllCategories() {
         return categoryRepository.findAll().stream()
@@ -42,7 +45,10 @@ public class CategoryService {
         category.setColorCode(categoryDTO.getColorCode());
 
         Category savedCategory = categoryRepository.save(category);
-        return convertToDTO(savedCategory);
+        CategoryDTO savedDTO = convertToDTO(savedCategory);
+        outboxService.append(OutboxEvent.AggregateType.CATEGORY, savedDTO.getId(), OutboxEvent.EventType.CREATED,
+                null, savedDTO);
+        return savedDTO;
     }
 
     @Transactional
@@ -60,7 +66,11 @@ public class CategoryService {
         category.setColorCode(categoryDTO.getColorCode());
 
         Category updatedCategory = categoryRepository.save(category);
-        return convertToDTO(updatedCategory);
+        // Category names are denormalised into every cached task view
+        taskViewCache.invalidateAll();
+        CategoryDTO updatedDTO = convertToDTO(updatedCategory);
+        outboxService.append(OutboxEvent.AggregateType.CATEGORY, id, OutboxEvent.EventType.UPDATED, null, updatedDTO);
+        return updatedDTO;
     }
 
     @Transactional
@@ -68,6 +78,8 @@ public class CategoryService {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
         categoryRepository.delete(category);
+        taskViewCache.invalidateAll();
+        outboxService.append(OutboxEvent.AggregateType.CATEGORY, id, OutboxEvent.EventType.DELETED, null, null);
     }
 
     private CategoryDTO convertToDTO(Category category) {
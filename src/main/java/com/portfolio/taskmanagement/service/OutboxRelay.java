@@ -0,0 +1,112 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.event.OutboxMessage;
+import com.portfolio.taskmanagement.event.OutboxSink;
+import com.portfolio.taskmanagement.model.OutboxEvent;
+import com.portfolio.taskmanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves outbox events to the {@link OutboxSink} in batches. Each batch is locked with {@code SKIP LOCKED},
+ * published and deleted in one transaction, so several instances drain the outbox side by side without
+ * waiting for each other. A batch the sink rejects is rolled back and retried on the next run.
+ * <p>
+ * Delivery is at least once. Events are published in id order within a batch, but not across instances,
+ * and an event whose transaction commits late may follow events with higher ids.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink sink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.published = Counter.builder("outbox.events.published")
+                .description("Outbox events handed to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Outbox batches that failed and will be retried")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.events.lag")
+                .description("Time from writing an outbox event to publishing it")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drains the outbox until it is empty or the run has relayed {@code max-batches-per-run} batches,
+     * and returns the number of events published.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}", initialDelayString = "${outbox.relay.interval:PT1S}")
+    public int relay() {
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int relayed = relayBatch();
+                total += relayed;
+                if (relayed < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Relaying outbox events failed, retrying on the next run", ex);
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return batch;
+            }
+            try {
+                sink.publish(batch.stream().map(OutboxMessage::of).toList());
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException("Outbox sink rejected the batch", ex);
+            }
+            outboxEventRepository.deleteAllInBatch(batch);
+            return batch;
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+        published.increment(events.size());
+        return events.size();
+    }
+}
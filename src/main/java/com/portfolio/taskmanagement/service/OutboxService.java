@@ -0,0 +1,66 @@
+package com.portfolio.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.event.TaskChangeEvent;
+import com.portfolio.taskmanagement.model.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records domain events in the {@code outbox_events} table. Every write joins the caller's transaction, so an
+ * event is stored exactly when the change it describes commits; {@link OutboxRelay} takes it from there.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // A plain listener runs inside the publishing transaction, unlike the after-commit listeners elsewhere
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChange(TaskChangeEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                OutboxEvent.EventType type = event.type() == TaskChangeEvent.Type.CREATED
+                        ? OutboxEvent.EventType.CREATED
+                        : OutboxEvent.EventType.UPDATED;
+                for (TaskDTO task : event.tasks()) {
+                    append(OutboxEvent.AggregateType.TASK, task.getId(), type, event.userId(), task);
+                }
+            }
+            case DELETED -> event.taskIds().forEach(taskId ->
+                    append(OutboxEvent.AggregateType.TASK, taskId, OutboxEvent.EventType.DELETED, event.userId(), null));
+            // The UPDATE statement does not report which tasks it changed, so consumers resync the user's tasks
+            case BULK_UPDATED -> append(OutboxEvent.AggregateType.USER, event.userId(),
+                    OutboxEvent.EventType.BULK_UPDATED, event.userId(), null);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEvent.AggregateType aggregateType, Long aggregateId, OutboxEvent.EventType eventType,
+                       Long userId, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setUserId(userId);
+        event.setPayload(payload != null ? toJson(payload) : null);
+        entityManager.persist(event);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize outbox payload", ex);
+        }
+    }
+}
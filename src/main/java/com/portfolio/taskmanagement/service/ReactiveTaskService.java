@@ -0,0 +1,45 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Streaming counterparts of the {@link TaskService} list reads. They go straight to the database
+ * without the task view cache, and emit each task as soon as its rows have arrived.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+
+    public Flux<TaskDTO> getAllTasksForUser(Long userId) {
+        return reactiveTaskRepository.findByUserId(userId).map(TaskMapper::toDTO);
+    }
+
+    public Flux<TaskDTO> getTasksByStatus(Long userId, Task.Status status) {
+        return reactiveTaskRepository.findByUserIdAndStatus(userId, status).map(TaskMapper::toDTO);
+    }
+
+    public Flux<TaskDTO> getTasksByPriority(Long userId, Task.Priority priority) {
+        return reactiveTaskRepository.findByUserIdAndPriority(userId, priority).map(TaskMapper::toDTO);
+    }
+
+    public Flux<TaskDTO> getTasksByCategory(Long userId, Long categoryId) {
+        return reactiveTaskRepository.findByUserIdAndCategoryId(userId, categoryId).map(TaskMapper::toDTO);
+    }
+
+    public Flux<TaskDTO> getTasksByTag(Long userId, Long tagId) {
+        return reactiveTaskRepository.findByUserIdAndTagId(userId, tagId).map(TaskMapper::toDTO);
+    }
+
+    public Flux<TaskDTO> getTasksDueBetween(Long userId, LocalDateTime start, LocalDateTime end) {
+        return reactiveTaskRepository.findTasksByUserAndDueDateBetween(userId, start, end).map(TaskMapper::toDTO);
+    }
+}
@@ -3,11 +3,17 @@ package com.portfolio.taskmanagement.service;
 import com.portfolio.taskmanagement.dto.TagDTO;
 import com.portfolio.taskmanagement.exception.DuplicateResourceException;
 import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
+import com.portfolio.taskmanagement.model.OutboxEvent;
 import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
 import com.portfolio.taskmanagement.repository.TagRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,6 +23,9 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskViewCache taskViewCache;
+    private final OutboxService outboxService;
 
     public List<TagDTO> getAllTags() {
         return tagRepository.findAll().stream()
@@ -40,7 +49,10 @@ public class TagService {
         tag.setName(tagDTO.getName());
 
         Tag savedTag = tagRepository.save(tag);
-        return convertToDTO(savedTag);
+        TagDTO savedDTO = convertToDTO(savedTag);
+        outboxService.append(OutboxEvent.AggregateType.TAG, savedDTO.getId(), OutboxEvent.EventType.CREATED,
+                null, savedDTO);
+        return savedDTO;
     }
 
     @Transactional
@@ -56,7 +68,11 @@ public class TagService {
         tag.setName(tagDTO.getName());
 
         Tag updatedTag = tagRepository.save(tag);
-        return convertToDTO(updatedTag);
+        // Tag names are denormalised into every cached task view
+        taskViewCache.invalidateAll();
+        TagDTO updatedDTO = convertToDTO(updatedTag);
+        outboxService.append(OutboxEvent.AggregateType.TAG, id, OutboxEvent.EventType.UPDATED, null, updatedDTO);
+        return updatedDTO;
     }
 
     @Transactional
@@ -64,6 +80,17 @@ public class TagService {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + id));
         tagRepository.delete(tag);
+        outboxService.append(OutboxEvent.AggregateType.TAG, id, OutboxEvent.EventType.DELETED, null, null);
+
+        // task_tags rows go away through the database's ON DELETE CASCADE, which Hibernate never sees,
+        // so cached Task.tags collections could still point at the deleted tag
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().unwrap(Cache.class).evictRegion(Task.TAGS_CACHE_REGION);
+            }
+        });
+        taskViewCache.invalidateAll();
     }
 
     private TagDTO convertToDTO(Tag tag) {
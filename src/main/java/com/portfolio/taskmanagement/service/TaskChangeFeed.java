@@ -0,0 +1,328 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskChangeDTO;
+import com.portfolio.taskmanagement.dto.TaskChangesDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.event.TaskChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Pushes committed task changes to each user's open server-sent event streams and long polls.
+ * <p>
+ * Every change gets a sequence number from one counter, so a user's changes are strictly increasing.
+ * Each user keeps a short history of recent changes so a client reconnecting with {@code Last-Event-ID}
+ * receives what it missed. When the history no longer reaches back that far the client is sent a
+ * {@code RESET} and reloads its tasks instead.
+ * <p>
+ * Changes are queued per connection and written by the application task executor, never by the committing
+ * request. A connection whose queue fills up is closed, and the client catches up from the history on
+ * reconnect, so a slow consumer costs at most one full queue.
+ * <p>
+ * The feed sees the changes committed by this instance only.
+ */
+@Slf4j
+@Component
+public class TaskChangeFeed {
+
+    // Seeded from the clock so sequences issued before a restart are never reused
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final ConcurrentMap<Long, UserFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    private final int historySize;
+    private final int bufferSize;
+    private final Duration streamTimeout;
+    private final Duration longPollTimeout;
+    private final Duration idleRetention;
+    private final TaskExecutor executor;
+    private final Counter overflows;
+
+    public TaskChangeFeed(
+            @Value("${task-change-feed.history-size:50}") int historySize,
+            @Value("${task-change-feed.buffer-size:100}") int bufferSize,
+            @Value("${task-change-feed.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${task-change-feed.long-poll-timeout:25s}") Duration longPollTimeout,
+            @Value("${task-change-feed.idle-retention:10m}") Duration idleRetention,
+            @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+            MeterRegistry meterRegistry) {
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.streamTimeout = streamTimeout;
+        this.longPollTimeout = longPollTimeout;
+        this.idleRetention = idleRetention;
+        this.executor = executor;
+        this.overflows = Counter.builder("task.changes.overflows")
+                .description("Change streams closed because the client did not keep up")
+                .register(meterRegistry);
+        meterRegistry.gauge("task.changes.streams", openStreams);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        withFeed(event.userId(), feed -> {
+            List<TaskChangeDTO> changes = new ArrayList<>();
+            switch (event.type()) {
+                case CREATED -> event.tasks().forEach(task -> changes.add(feed.append(TaskChangeDTO.Type.CREATED, task.getId(), task)));
+                case UPDATED -> event.tasks().forEach(task -> changes.add(feed.append(TaskChangeDTO.Type.UPDATED, task.getId(), task)));
+                case DELETED -> event.taskIds().forEach(taskId -> changes.add(feed.append(TaskChangeDTO.Type.DELETED, taskId, null)));
+                case BULK_UPDATED -> changes.add(feed.append(TaskChangeDTO.Type.RESET, null, null));
+            }
+            for (Subscriber subscriber : List.copyOf(feed.subscribers)) {
+                subscriber.deliver(feed, changes);
+            }
+        });
+    }
+
+    /**
+     * Opens an event stream of the user's changes after {@code lastSequence}, or of new changes only
+     * when it is null. The stream starts with a {@code ready} event, or a {@code reset} event when the
+     * changes after {@code lastSequence} are no longer known.
+     */
+    public SseEmitter subscribe(Long userId, Long lastSequence) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        StreamSubscriber subscriber = new StreamSubscriber(emitter);
+        withFeed(userId, feed -> {
+            feed.subscribers.add(subscriber);
+            if (lastSequence == null) {
+                subscriber.offer(event("ready", feed.highWaterMark(), null));
+            } else if (!feed.canResumeFrom(lastSequence)) {
+                subscriber.offer(event(TaskChangeDTO.Type.RESET, feed.highWaterMark(), null));
+            } else {
+                feed.history.stream()
+                        .filter(change -> change.getSequence() > lastSequence)
+                        .forEach(change -> subscriber.offer(event(change.getType(), change.getSequence(), change)));
+            }
+            openStreams.incrementAndGet();
+            AtomicBoolean subscribed = new AtomicBoolean(true);
+            Runnable unsubscribe = () -> {
+                subscriber.close();
+                if (subscribed.compareAndSet(true, false)) {
+                    openStreams.decrementAndGet();
+                    withFeed(userId, current -> current.subscribers.remove(subscriber));
+                }
+            };
+            emitter.onCompletion(unsubscribe);
+            emitter.onTimeout(unsubscribe);
+            emitter.onError(error -> unsubscribe.run());
+        });
+        return emitter;
+    }
+
+    /**
+     * Answers with the user's changes after {@code since} as soon as there are any, or with an empty list
+     * once the long-poll timeout passes. Without {@code since} it answers immediately with the current
+     * sequence to poll from.
+     */
+    public DeferredResult<TaskChangesDTO> poll(Long userId, Long since) {
+        DeferredResult<TaskChangesDTO> result = new DeferredResult<>(longPollTimeout.toMillis());
+        withFeed(userId, feed -> {
+            if (since == null) {
+                result.setResult(new TaskChangesDTO(List.of(), feed.highWaterMark(), false));
+            } else if (!feed.canResumeFrom(since)) {
+                result.setResult(new TaskChangesDTO(List.of(), feed.highWaterMark(), true));
+            } else if (feed.highWaterMark() > since) {
+                result.setResult(feed.changesAfter(since));
+            } else {
+                PollSubscriber subscriber = new PollSubscriber(result, since);
+                feed.subscribers.add(subscriber);
+                Runnable unsubscribe = () -> withFeed(userId, current -> current.subscribers.remove(subscriber));
+                result.onTimeout(() -> result.setResult(new TaskChangesDTO(List.of(), since, false)));
+                result.onCompletion(unsubscribe);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Keeps idle streams from being closed by proxies, detects disconnected clients and drops the
+     * history of users that have had neither changes nor listeners for a while.
+     */
+    @Scheduled(fixedDelayString = "${task-change-feed.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long idleSince = System.nanoTime() - idleRetention.toNanos();
+        for (UserFeed feed : feeds.values()) {
+            synchronized (feed) {
+                if (feed.subscribers.isEmpty() && feed.lastActivity - idleSince < 0) {
+                    feed.removed = true;
+                    feeds.remove(feed.userId, feed);
+                }
+                for (Subscriber subscriber : List.copyOf(feed.subscribers)) {
+                    if (subscriber instanceof StreamSubscriber stream) {
+                        stream.offer(SseEmitter.event().comment("keepalive"));
+                    }
+                }
+            }
+        }
+    }
+
+    private void withFeed(Long userId, Consumer<UserFeed> action) {
+        while (true) {
+            UserFeed feed = feeds.computeIfAbsent(userId, UserFeed::new);
+            synchronized (feed) {
+                // Retry if the heartbeat dropped this feed between the lookup and the lock
+                if (!feed.removed) {
+                    feed.lastActivity = System.nanoTime();
+                    action.accept(feed);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(TaskChangeDTO.Type type, long sequence, TaskChangeDTO change) {
+        return event(type.name().toLowerCase(Locale.ROOT), sequence,
+                change != null ? change : new TaskChangeDTO(sequence, type, null, null));
+    }
+
+    private static SseEmitter.SseEventBuilder event(String name, long sequence, Object data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().id(Long.toString(sequence)).name(name);
+        return data != null ? event.data(data, MediaType.APPLICATION_JSON) : event.data("");
+    }
+
+    private final class UserFeed {
+
+        private final Long userId;
+        private final ArrayDeque<TaskChangeDTO> history = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        // Every change of this user with a higher sequence is still in the history
+        private long floor = sequence.get();
+        private long lastActivity = System.nanoTime();
+        private boolean removed;
+
+        private UserFeed(Long userId) {
+            this.userId = userId;
+        }
+
+        private TaskChangeDTO append(TaskChangeDTO.Type type, Long taskId, TaskDTO task) {
+            TaskChangeDTO change = new TaskChangeDTO(sequence.incrementAndGet(), type, taskId, task);
+            history.addLast(change);
+            if (history.size() > historySize) {
+                floor = history.removeFirst().getSequence();
+            }
+            return change;
+        }
+
+        private boolean canResumeFrom(long lastSequence) {
+            return lastSequence >= floor && lastSequence <= highWaterMark();
+        }
+
+        private long highWaterMark() {
+            return history.isEmpty() ? floor : history.getLast().getSequence();
+        }
+
+        private TaskChangesDTO changesAfter(long since) {
+            List<TaskChangeDTO> changes = history.stream().filter(change -> change.getSequence() > since).toList();
+            boolean reset = changes.stream().anyMatch(change -> change.getType() == TaskChangeDTO.Type.RESET);
+            return new TaskChangesDTO(changes, highWaterMark(), reset);
+        }
+    }
+
+    private interface Subscriber {
+
+        void deliver(UserFeed feed, List<TaskChangeDTO> changes);
+    }
+
+    private final class StreamSubscriber implements Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private StreamSubscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void deliver(UserFeed feed, List<TaskChangeDTO> changes) {
+            changes.forEach(change -> offer(event(change.getType(), change.getSequence(), change)));
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // The client resumes from its last received event when it reconnects
+                if (close()) {
+                    overflows.increment();
+                    emitter.complete();
+                }
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException ex) {
+                log.debug("Closing task change stream: {}", ex.getMessage());
+                close();
+                emitter.completeWithError(ex);
+            } catch (IllegalStateException ex) {
+                // Completed concurrently by an overflow, a timeout or the client going away
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the last poll but before the flag was cleared would otherwise wait
+            if (!queue.isEmpty() && !closed.get() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private boolean close() {
+            queue.clear();
+            return closed.compareAndSet(false, true);
+        }
+    }
+
+    private static final class PollSubscriber implements Subscriber {
+
+        private final DeferredResult<TaskChangesDTO> result;
+        private final long since;
+
+        private PollSubscriber(DeferredResult<TaskChangesDTO> result, long since) {
+            this.result = result;
+            this.since = since;
+        }
+
+        @Override
+        public void deliver(UserFeed feed, List<TaskChangeDTO> changes) {
+            feed.subscribers.remove(this);
+            result.setResult(feed.changesAfter(since));
+        }
+    }
+}
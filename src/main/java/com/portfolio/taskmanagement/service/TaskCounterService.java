@@ -0,0 +1,186 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskCountersDTO;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.UserTaskCounter;
+import com.portfolio.taskmanagement.repository.TaskRepository;
+import com.portfolio.taskmanagement.repository.UserRepository;
+import com.portfolio.taskmanagement.repository.UserTaskCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@code user_task_counters} table: one row per user, status and priority holding the number
+ * of tasks in that combination, so badge counts are read from at most 16 rows instead of counting tasks.
+ * <p>
+ * Counters are adjusted with relative updates inside the transaction that writes the tasks, so they commit
+ * or roll back together. Writes that bypass {@link TaskService} (manual SQL, restored backups) are caught by
+ * {@link #reconcile()}, which recounts the tasks and repairs any counter that drifted.
+ */
+@Slf4j
+@Service
+public class TaskCounterService {
+
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    // Deltas are applied in the order the reconciliation locks rows, so the two never deadlock
+    private static final Comparator<Bucket> LOCK_ORDER = Comparator
+            .comparing((Bucket bucket) -> bucket.status().name())
+            .thenComparing(bucket -> bucket.priority().name());
+
+    private final UserTaskCounterRepository counterRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repairedCounters;
+
+    public record Bucket(Task.Status status, Task.Priority priority) {
+    }
+
+    public TaskCounterService(
+            UserTaskCounterRepository counterRepository,
+            UserRepository userRepository,
+            TaskRepository taskRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.counterRepository = counterRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repairedCounters = Counter.builder("task.counters.repaired")
+                .description("Task counters corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskCountersDTO getCounters(Long userId) {
+        Map<Task.Status, Long> byStatus = new EnumMap<>(Task.Status.class);
+        Map<Task.Priority, Long> byPriority = new EnumMap<>(Task.Priority.class);
+        Stream.of(Task.Status.values()).forEach(status -> byStatus.put(status, 0L));
+        Stream.of(Task.Priority.values()).forEach(priority -> byPriority.put(priority, 0L));
+        long total = 0;
+        for (UserTaskCounter counter : counterRepository.findByIdUserId(userId)) {
+            byStatus.merge(counter.getId().getStatus(), counter.getTaskCount(), Long::sum);
+            byPriority.merge(counter.getId().getPriority(), counter.getTaskCount(), Long::sum);
+            total += counter.getTaskCount();
+        }
+        return new TaskCountersDTO(total, byStatus, byPriority);
+    }
+
+    /**
+     * Creates the zero rows for a new user, so later writers only ever update existing rows.
+     */
+    @Transactional
+    public void initialize(Long userId) {
+        for (Task.Status status : Task.Status.values()) {
+            for (Task.Priority priority : Task.Priority.values()) {
+                entityManager.persist(new UserTaskCounter(new UserTaskCounter.Key(userId, status, priority), 0));
+            }
+        }
+    }
+
+    @Transactional
+    public void add(Long userId, Task.Status status, Task.Priority priority, long delta) {
+        apply(userId, Map.of(new Bucket(status, priority), delta));
+    }
+
+    @Transactional
+    public void move(Long userId, Bucket from, Bucket to) {
+        if (!from.equals(to)) {
+            apply(userId, Map.of(from, -1L, to, 1L));
+        }
+    }
+
+    @Transactional
+    public void apply(Long userId, Map<Bucket, Long> deltas) {
+        Map<Bucket, Long> ordered = new TreeMap<>(LOCK_ORDER);
+        ordered.putAll(deltas);
+        ordered.forEach((bucket, delta) -> {
+            if (delta != 0 && counterRepository.increment(userId, bucket.status(), bucket.priority(), delta) == 0) {
+                // Users created before the counters existed get their rows on first use
+                entityManager.persist(new UserTaskCounter(
+                        new UserTaskCounter.Key(userId, bucket.status(), bucket.priority()), delta));
+            }
+        });
+    }
+
+    @Transactional
+    public void deleteUser(Long userId) {
+        counterRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Recounts every user's tasks and overwrites counters that disagree, in batches of users with one
+     * transaction each. Returns the number of counters that were repaired.
+     */
+    @Scheduled(fixedDelayString = "${task-counters.reconcile-interval:PT15M}",
+            initialDelayString = "${task-counters.reconcile-interval:PT15M}")
+    public int reconcile() {
+        int repaired = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = userRepository.findIdsAfter(afterId, Limit.of(RECONCILE_BATCH_SIZE))).isEmpty()) {
+            List<Long> batch = userIds;
+            repaired += transactionTemplate.execute(status -> reconcileUsers(batch));
+            afterId = batch.get(batch.size() - 1);
+        }
+        if (repaired > 0) {
+            log.warn("Repaired {} drifted task counters", repaired);
+            repairedCounters.increment(repaired);
+        }
+        return repaired;
+    }
+
+    private int reconcileUsers(List<Long> userIds) {
+        // Lock the counters before counting: a concurrent task write then either committed already and is
+        // counted, or waits on the lock and applies its delta on top of the repaired value
+        Map<UserTaskCounter.Key, UserTaskCounter> counters = counterRepository.lockByUserIds(userIds).stream()
+                .collect(Collectors.toMap(UserTaskCounter::getId, Function.identity()));
+        Map<UserTaskCounter.Key, Long> actual = new HashMap<>();
+        for (TaskRepository.UserStatusPriorityCount group : taskRepository.countByUserStatusAndPriority(userIds)) {
+            actual.put(new UserTaskCounter.Key(group.getUserId(), group.getStatus(), group.getPriority()),
+                    group.getCount());
+        }
+
+        int repaired = 0;
+        for (Long userId : userIds) {
+            for (Task.Status status : Task.Status.values()) {
+                for (Task.Priority priority : Task.Priority.values()) {
+                    UserTaskCounter.Key key = new UserTaskCounter.Key(userId, status, priority);
+                    long expected = actual.getOrDefault(key, 0L);
+                    UserTaskCounter counter = counters.get(key);
+                    if (counter == null) {
+                        entityManager.persist(new UserTaskCounter(key, expected));
+                        repaired += expected != 0 ? 1 : 0;
+                    } else if (counter.getTaskCount() != expected) {
+                        counter.setTaskCount(expected);
+                        repaired++;
+                    }
+                }
+            }
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+
+import java.util.stream.Collectors;
+
+/**
+ * Maps tasks to their API representation, shared by the JPA-backed and the reactive read paths
+ * so both return identical documents.
+ */
+public final class TaskMapper {
+
+    private TaskMapper() {
+    }
+
+    public static TaskDTO toDTO(Task task) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(task.getId());
+        dto.setTitle(task.getTitle());
+        dto.setDescription(task.getDescription());
+        dto.setStatus(task.getStatus());
+        dto.setPriority(task.getPriority());
+        dto.setDueDate(task.getDueDate());
+        dto.setCreatedAt(task.getCreatedAt());
+        dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
+
+        if (task.getCategory() != null) {
+            dto.setCategoryId(task.getCategory().getId());
+            dto.setCategoryName(task.getCategory().getName());
+        }
+
+        if (task.getTags() != null && !task.getTags().isEmpty()) {
+            dto.setTagIds(task.getTags().stream().map(Tag::getId).collect(Collectors.toList()));
+            dto.setTagNames(task.getTags().stream().map(Tag::getName).collect(Collectors.toList()));
+        }
+
+        return dto;
+    }
+}
@@ -0,0 +1,290 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.event.TaskChangeEvent;
+import com.portfolio.taskmanagement.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over task titles and descriptions, scoped per user.
+ * <p>
+ * The database stays the source of truth: the index only returns ranked task ids, it is updated after
+ * each committed task write and rebuilt from the tasks table on startup. Documents of deleted users are
+ * never returned because every search is filtered by user, and they disappear with the next rebuild.
+ * <p>
+ * Searches keep seeing the previous index while a rebuild runs. Task changes committed meanwhile are held
+ * back and replayed over the rebuilt index, since the rebuild may have read those tasks before they changed.
+ * An index on disk is committed every {@code task-search.commit-interval} and on shutdown.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex {
+
+    // Title matches count more than description matches of the same term
+    private static final float TITLE_BOOST = 2.0f;
+
+    // Shorter prefixes expand to too many terms to stay fast on large indexes
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final String ID = "id";
+    private static final String USER_ID = "userId";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+
+    private final TaskRepository taskRepository;
+    private final boolean rebuildOnStartup;
+    private final boolean onDisk;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Guards missedChanges, which is only non-null while a rebuild runs
+    private final Object rebuildLock = new Object();
+    private List<TaskChangeEvent> missedChanges;
+
+    public TaskSearchIndex(
+            TaskRepository taskRepository,
+            @Value("${task-search.index-path:}") String indexPath,
+            @Value("${task-search.rebuild-on-startup:true}") boolean rebuildOnStartup) throws IOException {
+        this.taskRepository = taskRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.onDisk = !indexPath.isBlank();
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the current contents of the tasks table. Must run in a transaction.
+     */
+    public void rebuild() {
+        // Started before the tasks are read, so every change the read might miss is held back
+        synchronized (rebuildLock) {
+            missedChanges = new ArrayList<>();
+        }
+        long count = 0;
+        int replayed;
+        try (Stream<TaskRepository.TaskText> tasks = taskRepository.streamAllText()) {
+            writer.deleteAll();
+            for (TaskRepository.TaskText task : (Iterable<TaskRepository.TaskText>) tasks::iterator) {
+                index(task.getId(), task.getUserId(), task.getTitle(), task.getDescription());
+                count++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            // Also after a failed read, so the held-back changes are not lost
+            replayed = replayMissedChanges();
+        }
+        log.info("Rebuilt task search index with {} tasks, replayed {} changes made meanwhile", count, replayed);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (event.type() == TaskChangeEvent.Type.BULK_UPDATED) {
+            // Bulk updates only change status, priority and category, none of which is indexed
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (missedChanges != null) {
+                missedChanges.add(event);
+                return;
+            }
+            apply(event);
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // An in-memory index has nothing to persist, and a rebuild commits on its own
+    @Scheduled(fixedDelayString = "${task-search.commit-interval:PT30S}",
+            initialDelayString = "${task-search.commit-interval:PT30S}")
+    public void commit() {
+        if (!onDisk) {
+            return;
+        }
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Returns ids of the user's tasks whose title or description contains every word of the query,
+     * best match first. Each word also matches as a prefix, so "rep" finds "report".
+     */
+    public List<Long> search(Long userId, String text, int maxResults) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(USER_ID, userId.toString())), BooleanClause.Occur.FILTER);
+        for (String term : terms) {
+            query.add(termQuery(term), BooleanClause.Occur.MUST);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query.build(), maxResults).scoreDocs;
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(taskId(searcher, hit.doc));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void apply(TaskChangeEvent event) {
+        try {
+            if (event.type() == TaskChangeEvent.Type.DELETED) {
+                for (Long taskId : event.taskIds()) {
+                    writer.deleteDocuments(new Term(ID, taskId.toString()));
+                }
+            } else {
+                for (TaskDTO task : event.tasks()) {
+                    index(task.getId(), event.userId(), task.getTitle(), task.getDescription());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private int replayMissedChanges() {
+        int replayed;
+        synchronized (rebuildLock) {
+            replayed = missedChanges.size();
+            missedChanges.forEach(this::apply);
+            missedChanges = null;
+        }
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return replayed;
+    }
+
+    private void index(Long taskId, Long userId, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(ID, taskId.toString(), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID, taskId));
+        document.add(new StringField(USER_ID, userId.toString(), Field.Store.NO));
+        document.add(new TextField(TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, description != null ? description : "", Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, taskId.toString()), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Query termQuery(String term) {
+        // Exact terms score by BM25; prefix matches add a constant score so whole words rank first
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+        if (term.length() >= MIN_PREFIX_LENGTH) {
+            query.add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private static long taskId(IndexSearcher searcher, int doc) throws IOException {
+        List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+        NumericDocValues ids = leaf.reader().getNumericDocValues(ID);
+        ids.advanceExact(doc - leaf.docBase);
+        return ids.longValue();
+    }
+}
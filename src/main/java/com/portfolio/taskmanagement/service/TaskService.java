@@ -1,6 +1,19 @@
 package com.portfolio.taskmanagement.service;
 
+import com.portfolio.taskmanagement.dto.BulkTaskItemResultDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskResultDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateResultDTO;
+import com.portfolio.taskmanagement.dto.TaskCountersDTO;
 import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.TaskPageDTO;
+import com.portfolio.taskmanagement.dto.TaskPatchDTO;
+import com.portfolio.taskmanagement.dto.TaskSearchCriteria;
+import com.portfolio.taskmanagement.dto.TaskSearchResultDTO;
+import com.portfolio.taskmanagement.dto.TaskStatsDTO;
+import com.portfolio.taskmanagement.event.TaskChangeEvent;
+import com.portfolio.taskmanagement.exception.BadRequestException;
+import com.portfolio.taskmanagement.exception.PreconditionFailedException;
 import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
 import com.portfolio.taskmanagement.model.Category;
 import com.portfolio.taskmanagement.model.Tag;
@@ -9,46 +22,308 @@ import com.portfolio.taskmanagement.model.User;
 import com.portfolio.taskmanagement.repository.CategoryRepository;
 import com.portfolio.taskmanagement.repository.TagRepository;
 import com.portfolio.taskmanagement.repository.TaskRepository;
+import com.portfolio.taskmanagement.repository.TaskSpecifications;
 import com.portfolio.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    // Matches the Task.tags batch size so a full page loads all of its tags in one query
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final int MAX_BULK_SIZE = 10_000;
+
+    // Flush and clear the persistence context every few JDBC batches to keep memory flat
+    private static final int BULK_FLUSH_SIZE = 500;
+
+    // Streamed tasks are mapped this many at a time, matching the Task.tags batch size
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private static final String CURSOR_PREFIX = "page:";
+
+    // Relevance search re-checks at most this many index hits against the database
+    private static final int MAX_FULL_TEXT_HITS = 1000;
+
+    public static final int MAX_STATS_DAYS = 366;
+
+    private static final Set<Task.Status> CLOSED_STATUSES = Set.of(Task.Status.COMPLETED, Task.Status.ARCHIVED);
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "title", "status", "priority", "dueDate", "createdAt", "updatedAt");
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TaskViewCache taskViewCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCounterService taskCounterService;
+    private final TaskSyncService taskSyncService;
 
     public List<TaskDTO> getAllTasksForUser(Long userId) {
-        return taskRepository.findByUserId(userId).stream()
-                .map(this::convertToDTO)
+        return taskViewCache.get(userId, "all", () ->
+                taskRepository.findByUserId(userId).stream()
+                        .map(TaskMapper::toDTO)
+                        .collect(Collectors.toList()));
+    }
+
+    public TaskCountersDTO getTaskCounters(Long userId) {
+        return taskCounterService.getCounters(userId);
+    }
+
+    public String getTaskListETag(Long userId) {
+        return taskViewCache.getETag(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPage(Long userId, String cursor, int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        PageCursor after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+
+        // Fetch one extra row to learn whether another page exists without issuing a count query
+        Limit limit = Limit.of(pageSize + 1);
+        List<Task> tasks = after == null
+                ? taskRepository.findFirstPageByUserId(userId, limit)
+                : taskRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+        boolean hasNext = tasks.size() > pageSize;
+        List<Task> pageTasks = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        List<TaskDTO> content = pageTasks.stream()
+                .map(TaskMapper::toDTO)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor(pageTasks.get(pageTasks.size() - 1)) : null;
+
+        return new TaskPageDTO(content, content.size(), hasNext, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSearchResultDTO searchTasks(Long userId, TaskSearchCriteria criteria, int page, int size,
+                                           List<String> sort, boolean count) {
+        if (page < 0) {
+            throw new BadRequestException("Page index must not be negative");
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        Specification<Task> spec = Specification.allOf(
+                TaskSpecifications.belongsToUser(userId),
+                TaskSpecifications.hasStatusIn(criteria.getStatus()),
+                TaskSpecifications.hasPriorityIn(criteria.getPriority()),
+                TaskSpecifications.inCategory(criteria.getCategoryId()),
+                TaskSpecifications.hasAnyTag(criteria.getTagId()),
+                TaskSpecifications.dueBetween(criteria.getDueFrom(), criteria.getDueTo()),
+                TaskSpecifications.textContains(criteria.getText()));
+        if (criteria.getQ() != null && !criteria.getQ().isBlank()) {
+            return searchTasksByRelevance(userId, criteria.getQ(), spec, page, pageSize, sort, count);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        query.where(spec.toPredicate(task, query, cb));
+        query.orderBy(toOrders(parseSort(sort), task, cb));
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Task> tasks = withCategory(query)
+                .setFirstResult(page * pageSize)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskDTO> content = (hasNext ? tasks.subList(0, pageSize) : tasks).stream()
+                .map(TaskMapper::toDTO)
+                .collect(Collectors.toList());
+
+        Long totalElements = null;
+        if (count) {
+            totalElements = page == 0 && !hasNext ? content.size() : taskRepository.count(spec);
+        }
+        return new TaskSearchResultDTO(content, page, content.size(), hasNext, totalElements);
+    }
+
+    private TaskSearchResultDTO searchTasksByRelevance(Long userId, String text, Specification<Task> spec, int page,
+                                                       int pageSize, List<String> sort, boolean count) {
+        List<Long> rankedIds = taskSearchIndex.search(userId, text, MAX_FULL_TEXT_HITS);
+        if (rankedIds.isEmpty()) {
+            return new TaskSearchResultDTO(List.of(), page, 0, false, count ? 0L : null);
+        }
+
+        // Check the hits against the database: this applies the other criteria and drops any hit the index
+        // reports for a task that no longer exists
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> idQuery = cb.createQuery(Long.class);
+        Root<Task> matched = idQuery.from(Task.class);
+        idQuery.select(matched.get("id"))
+                .where(spec.and(TaskSpecifications.hasIdIn(rankedIds)).toPredicate(matched, idQuery, cb));
+        boolean sortByRelevance = sort == null || sort.isEmpty();
+        if (!sortByRelevance) {
+            idQuery.orderBy(toOrders(parseSort(sort), matched, cb));
+        }
+        List<Long> matchingIds = entityManager.createQuery(idQuery).getResultList();
+        if (sortByRelevance) {
+            Set<Long> matching = new HashSet<>(matchingIds);
+            matchingIds = rankedIds.stream().filter(matching::contains).toList();
+        }
+
+        int from = (int) Math.min((long) page * pageSize, matchingIds.size());
+        int to = Math.min(from + pageSize, matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(from, to);
+
+        List<TaskDTO> content = new ArrayList<>();
+        if (!pageIds.isEmpty()) {
+            CriteriaQuery<Task> query = cb.createQuery(Task.class);
+            Root<Task> task = query.from(Task.class);
+            query.where(TaskSpecifications.hasIdIn(pageIds).toPredicate(task, query, cb));
+            Map<Long, Task> tasksById = withCategory(query).getResultList().stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            pageIds.stream().map(tasksById::get).filter(Objects::nonNull).map(TaskMapper::toDTO).forEach(content::add);
+        }
+        Long totalElements = count ? (long) matchingIds.size() : null;
+        return new TaskSearchResultDTO(content, page, content.size(), to < matchingIds.size(), totalElements);
+    }
+
+    private TypedQuery<Task> withCategory(CriteriaQuery<Task> query) {
+        // Only the category is fetched with the tasks; a collection fetch would force in-memory paging,
+        // and tags are loaded by Task.tags' batch size instead
+        EntityGraph<Task> graph = entityManager.createEntityGraph(Task.class);
+        graph.addAttributeNodes("category");
+        return entityManager.createQuery(query).setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, graph);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskStatsDTO getTaskStats(Long userId, LocalDate from, LocalDate to) {
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(29);
+        if (firstDay.isAfter(lastDay)) {
+            throw new BadRequestException("Stats range start must not be after its end");
+        }
+        if (firstDay.plusDays(MAX_STATS_DAYS).isBefore(lastDay)) {
+            throw new BadRequestException("Stats range is limited to " + MAX_STATS_DAYS + " days");
+        }
+
+        Map<Task.Status, Long> byStatus = new EnumMap<>(Task.Status.class);
+        Map<Task.Priority, Long> byPriority = new EnumMap<>(Task.Priority.class);
+        Stream.of(Task.Status.values()).forEach(status -> byStatus.put(status, 0L));
+        Stream.of(Task.Priority.values()).forEach(priority -> byPriority.put(priority, 0L));
+        long total = 0;
+        long overdue = 0;
+        for (TaskRepository.StatusPriorityCount group : taskRepository.countByStatusAndPriority(userId, LocalDateTime.now())) {
+            byStatus.merge(group.getStatus(), group.getCount(), Long::sum);
+            byPriority.merge(group.getPriority(), group.getCount(), Long::sum);
+            total += group.getCount();
+            if (!CLOSED_STATUSES.contains(group.getStatus())) {
+                overdue += group.getOverdue();
+            }
+        }
+
+        List<TaskStatsDTO.GroupCount> byCategory = toGroupCounts(taskRepository.countByCategory(userId));
+        List<TaskStatsDTO.GroupCount> byTag = toGroupCounts(taskRepository.countByTag(userId));
+
+        Map<LocalDate, Long> completedByDay = taskRepository.countByStatusPerDay(
+                        userId, Task.Status.COMPLETED, firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay()).stream()
+                .collect(Collectors.toMap(TaskRepository.DayCount::getDay, TaskRepository.DayCount::getCount));
+        // Fill in empty days so clients can chart the series directly
+        List<TaskStatsDTO.DailyCount> completedPerDay = firstDay.datesUntil(lastDay.plusDays(1))
+                .map(day -> new TaskStatsDTO.DailyCount(day, completedByDay.getOrDefault(day, 0L)))
+                .collect(Collectors.toList());
+
+        return new TaskStatsDTO(total, byStatus, byPriority, byCategory, byTag, overdue, completedPerDay);
+    }
+
+    private static List<TaskStatsDTO.GroupCount> toGroupCounts(List<TaskRepository.GroupCount> groups) {
+        return groups.stream()
+                .map(group -> new TaskStatsDTO.GroupCount(group.getId(), group.getName(), group.getCount()))
+                .sorted(Comparator.comparingLong(TaskStatsDTO.GroupCount::getCount).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTasksForUser(Long userId, Consumer<TaskDTO> consumer) {
+        List<Task> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<Task> tasks = taskRepository.streamByUserId(userId)) {
+            tasks.forEach(task -> {
+                chunk.add(task);
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    emitStreamChunk(chunk, consumer);
+                }
+            });
+            emitStreamChunk(chunk, consumer);
+        }
+    }
+
+    private void emitStreamChunk(List<Task> chunk, Consumer<TaskDTO> consumer) {
+        // Mapping the first task batch-loads the tags of the whole chunk
+        chunk.forEach(task -> consumer.accept(TaskMapper.toDTO(task)));
+        // Keep the persistence context from growing with the result set
+        chunk.forEach(entityManager::detach);
+        chunk.clear();
     }
 
     public TaskDTO getTaskById(Long id, Long userId) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         if (!task.getUser().getId().equals(userId)) {
             throw new ResourceNotFoundException("Task not found with id: " + id);
         }
 
-        return convertToDTO(task);
+        return TaskMapper.toDTO(task);
     }
 
     @Transactional
     public TaskDTO createTask(TaskDTO taskDTO, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
 
         Task task = new Task();
         task.setTitle(taskDTO.getTitle());
@@ -56,61 +331,323 @@ public class TaskService {
         task.setStatus(taskDTO.getStatus() != null ? taskDTO.getStatus() : Task.Status.TODO);
         task.setPriority(taskDTO.getPriority() != null ? taskDTO.getPriority() : Task.Priority.MEDIUM);
         task.setDueDate(taskDTO.getDueDate());
-        task.setUser(user);
+        task.setUser(userRepository.getReferenceById(userId));
 
         if (taskDTO.getCategoryId() != null) {
-            Category category = categoryRepository.findById(taskDTO.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + taskDTO.getCategoryId()));
-            task.setCategory(category);
+            task.setCategory(findCategory(taskDTO.getCategoryId()));
         }
 
         if (taskDTO.getTagIds() != null && !taskDTO.getTagIds().isEmpty()) {
-            List<Tag> tags = taskDTO.getTagIds().stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + tagId)))
-                    .collect(Collectors.toList());
-            task.setTags(tags);
+            task.setTags(findTags(taskDTO.getTagIds()));
         }
 
         Task savedTask = taskRepository.save(task);
-        return convertToDTO(savedTask);
+        taskCounterService.add(userId, savedTask.getStatus(), savedTask.getPriority(), 1);
+        taskViewCache.invalidateUser(userId);
+        TaskDTO savedDTO = TaskMapper.toDTO(savedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.created(userId, List.of(savedDTO)));
+        return savedDTO;
     }
 
+    // A null expectedVersion updates unconditionally; the version check still rejects a concurrent write
     @Transactional
-    public TaskDTO updateTask(Long id, TaskDTO taskDTO, Long userId) {
-        Task task = taskRepository.findById(id)
+    public TaskDTO updateTask(Long id, TaskDTO taskDTO, Long userId, Long expectedVersion) {
+        Task task = taskRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         if (!task.getUser().getId().equals(userId)) {
             throw new ResourceNotFoundException("Task not found with id: " + id);
         }
+        checkVersion(id, expectedVersion, task.getVersion());
 
+        TaskCounterService.Bucket previousBucket = new TaskCounterService.Bucket(task.getStatus(), task.getPriority());
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setStatus(taskDTO.getStatus());
         task.setPriority(taskDTO.getPriority());
         task.setDueDate(taskDTO.getDueDate());
 
-        if (taskDTO.getCategoryId() != null) {
-            Category category = categoryRepository.findById(taskDTO.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + taskDTO.getCategoryId()));
-            task.setCategory(category);
-        } else {
+        if (taskDTO.getCategoryId() == null) {
             task.setCategory(null);
+        } else if (task.getCategory() == null || !task.getCategory().getId().equals(taskDTO.getCategoryId())) {
+            task.setCategory(findCategory(taskDTO.getCategoryId()));
         }
 
-        if (taskDTO.getTagIds() != null) {
-            List<Tag> tags = taskDTO.getTagIds().stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + tagId)))
-                    .collect(Collectors.toList());
-            task.setTags(tags);
-        } else {
+        if (taskDTO.getTagIds() == null || taskDTO.getTagIds().isEmpty()) {
             task.setTags(new ArrayList<>());
+        } else if (!hasSameTags(task, taskDTO.getTagIds())) {
+            // Only replace the collection when it changed; a new bag rewrites every task_tags row
+            task.setTags(findTags(taskDTO.getTagIds()));
         }
 
-        Task updatedTask = taskRepository.save(task);
-        return convertToDTO(updatedTask);
+        Task updatedTask;
+        try {
+            // Flushed here so a lost race surfaces as a failed precondition when the client sent one
+            updatedTask = taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Task " + id + " was changed by another request");
+            }
+            throw ex;
+        }
+        taskCounterService.move(userId, previousBucket,
+                new TaskCounterService.Bucket(updatedTask.getStatus(), updatedTask.getPriority()));
+        taskViewCache.invalidateUser(userId);
+        TaskDTO updatedDTO = TaskMapper.toDTO(updatedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.updated(userId, updatedDTO));
+        return updatedDTO;
+    }
+
+    // Writes only the fields present in the patch with one UPDATE guarded by the version, instead of
+    // loading the task and its tags to dirty-check them
+    @Transactional
+    public TaskDTO patchTask(Long id, TaskPatchDTO patch, Long userId, Long expectedVersion) {
+        validatePatch(patch);
+        TaskRepository.TaskState current = taskRepository.findStateByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        checkVersion(id, expectedVersion, current.getVersion());
+        Long categoryId = patch.getCategoryId() != null ? patch.getCategoryId().orElse(null) : null;
+        if (categoryId != null && !categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category not found with id: " + categoryId);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> query = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = query.from(Task.class);
+        if (patch.getTitle() != null) {
+            query.set(task.<String>get("title"), patch.getTitle().get());
+        }
+        if (patch.getDescription() != null) {
+            query.set(task.<String>get("description"), patch.getDescription().orElse(null));
+        }
+        if (patch.getStatus() != null) {
+            query.set(task.<Task.Status>get("status"), patch.getStatus().get());
+        }
+        if (patch.getPriority() != null) {
+            query.set(task.<Task.Priority>get("priority"), patch.getPriority().get());
+        }
+        if (patch.getDueDate() != null) {
+            query.set(task.<LocalDateTime>get("dueDate"), patch.getDueDate().orElse(null));
+        }
+        if (patch.getCategoryId() != null) {
+            query.set(task.<Category>get("category"),
+                    categoryId != null ? categoryRepository.getReferenceById(categoryId) : null);
+        }
+        query.set(task.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        query.set(task.<Long>get("version"), cb.sum(task.get("version"), 1L));
+        query.where(cb.equal(task.get("id"), id), cb.equal(task.get("version"), current.getVersion()));
+
+        if (entityManager.createQuery(query).executeUpdate() == 0) {
+            // Another write landed between reading the version and updating
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Task " + id + " was changed by another request");
+            }
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+
+        Task updatedTask = taskRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        taskCounterService.move(userId, new TaskCounterService.Bucket(current.getStatus(), current.getPriority()),
+                new TaskCounterService.Bucket(updatedTask.getStatus(), updatedTask.getPriority()));
+        taskViewCache.invalidateUser(userId);
+        TaskDTO updatedDTO = TaskMapper.toDTO(updatedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.updated(userId, updatedDTO));
+        return updatedDTO;
+    }
+
+    private static void validatePatch(TaskPatchDTO patch) {
+        if (patch.getTitle() == null && patch.getDescription() == null && patch.getStatus() == null
+                && patch.getPriority() == null && patch.getDueDate() == null && patch.getCategoryId() == null) {
+            throw new BadRequestException("Patch requires at least one of title, description, status, priority, "
+                    + "dueDate or categoryId");
+        }
+        if (patch.getTitle() != null && patch.getTitle().filter(title -> !title.isBlank()).isEmpty()) {
+            throw new BadRequestException("Title must not be blank");
+        }
+        if (patch.getStatus() != null && patch.getStatus().isEmpty()) {
+            throw new BadRequestException("Status must not be null");
+        }
+        if (patch.getPriority() != null && patch.getPriority().isEmpty()) {
+            throw new BadRequestException("Priority must not be null");
+        }
+    }
+
+    private static void checkVersion(Long id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(
+                    "Task " + id + " is at version " + currentVersion + ", not " + expectedVersion);
+        }
+    }
+
+    @Transactional
+    public BulkTaskResultDTO createTasks(List<TaskDTO> taskDTOs, Long userId) {
+        if (taskDTOs.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Bulk requests are limited to " + MAX_BULK_SIZE + " tasks");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        // Resolve every referenced category and tag once for the whole request
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> tagIds = new HashSet<>();
+        for (TaskDTO taskDTO : taskDTOs) {
+            if (taskDTO == null) {
+                continue;
+            }
+            if (taskDTO.getCategoryId() != null) {
+                categoryIds.add(taskDTO.getCategoryId());
+            }
+            if (taskDTO.getTagIds() != null) {
+                taskDTO.getTagIds().stream().filter(Objects::nonNull).forEach(tagIds::add);
+            }
+        }
+        Map<Long, Category> categoriesById = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Long, Tag> tagsById = tagRepository.findAllById(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        User user = userRepository.getReferenceById(userId);
+        List<BulkTaskItemResultDTO> items = new ArrayList<>(taskDTOs.size());
+        int created = 0;
+        List<Task> pendingTasks = new ArrayList<>(BULK_FLUSH_SIZE);
+        List<TaskDTO> createdDTOs = new ArrayList<>(taskDTOs.size());
+        Map<TaskCounterService.Bucket, Long> createdCounts = new HashMap<>();
+
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskDTO taskDTO = taskDTOs.get(i);
+            List<String> errors = validateBulkTask(taskDTO, categoriesById, tagsById);
+            if (!errors.isEmpty()) {
+                items.add(new BulkTaskItemResultDTO(i, BulkTaskItemResultDTO.Status.FAILED, null, errors));
+                continue;
+            }
+
+            Task task = new Task();
+            task.setTitle(taskDTO.getTitle());
+            task.setDescription(taskDTO.getDescription());
+            task.setStatus(taskDTO.getStatus());
+            task.setPriority(taskDTO.getPriority());
+            task.setDueDate(taskDTO.getDueDate());
+            task.setUser(user);
+            if (taskDTO.getCategoryId() != null) {
+                task.setCategory(categoriesById.get(taskDTO.getCategoryId()));
+            }
+            if (taskDTO.getTagIds() != null) {
+                task.setTags(taskDTO.getTagIds().stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(tagsById::get)
+                        .collect(Collectors.toList()));
+            }
+
+            entityManager.persist(task);
+            items.add(new BulkTaskItemResultDTO(i, BulkTaskItemResultDTO.Status.CREATED, task.getId(), null));
+            pendingTasks.add(task);
+            createdCounts.merge(new TaskCounterService.Bucket(task.getStatus(), task.getPriority()), 1L, Long::sum);
+            created++;
+
+            if (created % BULK_FLUSH_SIZE == 0) {
+                flushCreatedTasks(pendingTasks, createdDTOs);
+            }
+        }
+        flushCreatedTasks(pendingTasks, createdDTOs);
+
+        if (created > 0) {
+            taskCounterService.apply(userId, createdCounts);
+            taskViewCache.invalidateUser(userId);
+            eventPublisher.publishEvent(TaskChangeEvent.created(userId, createdDTOs));
+        }
+        return new BulkTaskResultDTO(created, taskDTOs.size() - created, items);
+    }
+
+    private void flushCreatedTasks(List<Task> pendingTasks, List<TaskDTO> createdDTOs) {
+        entityManager.flush();
+        // Map after the flush so generated timestamps are included, and before the clear detaches the tasks
+        pendingTasks.stream().map(TaskMapper::toDTO).forEach(createdDTOs::add);
+        pendingTasks.clear();
+        entityManager.clear();
+    }
+
+    @Transactional
+    public BulkTaskUpdateResultDTO updateTasks(BulkTaskUpdateDTO update, Long userId) {
+        boolean hasIds = update.getIds() != null && !update.getIds().isEmpty();
+        boolean hasFilter = (update.getCurrentStatuses() != null && !update.getCurrentStatuses().isEmpty())
+                || (update.getCurrentPriorities() != null && !update.getCurrentPriorities().isEmpty())
+                || update.getCurrentCategoryId() != null;
+        if (!hasIds && !hasFilter) {
+            throw new BadRequestException("Bulk update requires task ids or at least one filter");
+        }
+        if (hasIds && update.getIds().size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Bulk requests are limited to " + MAX_BULK_SIZE + " tasks");
+        }
+        if (update.getStatus() == null && update.getPriority() == null && update.getCategoryId() == null) {
+            throw new BadRequestException("Bulk update requires at least one of status, priority or categoryId");
+        }
+        if (update.getCategoryId() != null && !categoryRepository.existsById(update.getCategoryId())) {
+            throw new ResourceNotFoundException("Category not found with id: " + update.getCategoryId());
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> query = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        if (update.getStatus() != null) {
+            query.set(task.<Task.Status>get("status"), update.getStatus());
+        }
+        if (update.getPriority() != null) {
+            query.set(task.<Task.Priority>get("priority"), update.getPriority());
+        }
+        if (update.getCategoryId() != null) {
+            query.set(task.<Category>get("category"), categoryRepository.getReferenceById(update.getCategoryId()));
+        }
+        // Bulk statements bypass entity callbacks, so @UpdateTimestamp and @Version have to be maintained by hand
+        query.set(task.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        query.set(task.<Long>get("version"), cb.sum(task.get("version"), 1L));
+
+        Specification<Task> spec = Specification.allOf(
+                TaskSpecifications.belongsToUser(userId),
+                hasIds ? TaskSpecifications.hasIdIn(update.getIds()) : null,
+                TaskSpecifications.hasStatusIn(update.getCurrentStatuses()),
+                TaskSpecifications.hasPriorityIn(update.getCurrentPriorities()),
+                TaskSpecifications.inCategory(update.getCurrentCategoryId()));
+        query.where(spec.toPredicate(task, null, cb));
+
+        // Write pending changes first and drop managed tasks afterwards so nothing stale survives the UPDATE
+        entityManager.flush();
+        Map<TaskCounterService.Bucket, Long> counterDeltas = update.getStatus() != null || update.getPriority() != null
+                ? countMovedTasks(spec, update.getStatus(), update.getPriority())
+                : Map.of();
+        int updated = entityManager.createQuery(query).executeUpdate();
+        entityManager.clear();
+
+        if (updated > 0) {
+            taskCounterService.apply(userId, counterDeltas);
+            taskViewCache.invalidateUser(userId);
+            eventPublisher.publishEvent(TaskChangeEvent.bulkUpdated(userId));
+        }
+        return new BulkTaskUpdateResultDTO(updated);
+    }
+
+    private Map<TaskCounterService.Bucket, Long> countMovedTasks(Specification<Task> spec, Task.Status newStatus,
+                                                                 Task.Priority newPriority) {
+        // One grouped count of the rows the UPDATE is about to change, turned into counter deltas
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+        query.multiselect(task.get("status"), task.get("priority"), cb.count(task))
+                .where(spec.toPredicate(task, query, cb))
+                .groupBy(task.get("status"), task.get("priority"));
+
+        Map<TaskCounterService.Bucket, Long> deltas = new HashMap<>();
+        for (Tuple group : entityManager.createQuery(query).getResultList()) {
+            Task.Status status = group.get(0, Task.Status.class);
+            Task.Priority priority = group.get(1, Task.Priority.class);
+            long count = group.get(2, Long.class);
+            deltas.merge(new TaskCounterService.Bucket(status, priority), -count, Long::sum);
+            deltas.merge(new TaskCounterService.Bucket(newStatus != null ? newStatus : status,
+                    newPriority != null ? newPriority : priority), count, Long::sum);
+        }
+        return deltas;
     }
 
     @Transactional
@@ -123,53 +660,148 @@ public class TaskService {
         }
 
         taskRepository.delete(task);
+        taskCounterService.add(userId, task.getStatus(), task.getPriority(), -1);
+        taskSyncService.recordDeletion(id, userId);
+        taskViewCache.invalidateUser(userId);
+        eventPublisher.publishEvent(TaskChangeEvent.deleted(userId, id));
     }
 
     public List<TaskDTO> getTasksByStatus(Long userId, Task.Status status) {
-        return taskRepository.findByUserIdAndStatus(userId, status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return taskViewCache.get(userId, "status:" + status, () ->
+                taskRepository.findByUserIdAndStatus(userId, status).stream()
+                        .map(TaskMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     public List<TaskDTO> getTasksByPriority(Long userId, Task.Priority priority) {
-        return taskRepository.findByUserIdAndPriority(userId, priority).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return taskViewCache.get(userId, "priority:" + priority, () ->
+                taskRepository.findByUserIdAndPriority(userId, priority).stream()
+                        .map(TaskMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     public List<TaskDTO> getTasksByCategory(Long userId, Long categoryId) {
-        return taskRepository.findByUserIdAndCategoryId(userId, categoryId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return taskViewCache.get(userId, "category:" + categoryId, () ->
+                taskRepository.findByUserIdAndCategoryId(userId, categoryId).stream()
+                        .map(TaskMapper::toDTO)
+                        .collect(Collectors.toList()));
+    }
+
+    public List<TaskDTO> getTasksByTag(Long userId, Long tagId) {
+        return taskViewCache.get(userId, "tag:" + tagId, () ->
+                taskRepository.findByUserIdAndTagId(userId, tagId).stream()
+                        .map(TaskMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     public List<TaskDTO> getTasksDueBetween(Long userId, LocalDateTime start, LocalDateTime end) {
         return taskRepository.findTasksByUserAndDueDateBetween(userId, start, end).stream()
-                .map(this::convertToDTO)
+                .map(TaskMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private Sort parseSort(List<String> sort) {
+        // Accepts "field", "field,desc" or the already-split tokens Spring binds from sort=field,desc
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sort != null) {
+            for (String token : sort.stream().flatMap(value -> Stream.of(value.split(","))).map(String::trim).toList()) {
+                Optional<Sort.Direction> direction = Sort.Direction.fromOptionalString(token);
+                if (direction.isPresent()) {
+                    if (orders.isEmpty()) {
+                        throw new BadRequestException("Sort direction '" + token + "' must follow a field");
+                    }
+                    Sort.Order last = orders.remove(orders.size() - 1);
+                    orders.add(last.with(direction.get()));
+                } else if (SORTABLE_FIELDS.contains(token)) {
+                    orders.add(Sort.Order.asc(token));
+                } else {
+                    throw new BadRequestException("Cannot sort by '" + token + "'; allowed: " + SORTABLE_FIELDS);
+                }
+            }
+        }
+        // The id tie-breaker keeps offsets stable when sort values repeat
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        return Sort.by(orders);
+    }
+
+    private List<String> validateBulkTask(TaskDTO taskDTO, Map<Long, Category> categoriesById, Map<Long, Tag> tagsById) {
+        if (taskDTO == null) {
+            return new ArrayList<>(List.of("Task must not be null"));
+        }
+        List<String> errors = validator.validate(taskDTO).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
                 .collect(Collectors.toList());
+
+        if (taskDTO.getCategoryId() != null && !categoriesById.containsKey(taskDTO.getCategoryId())) {
+            errors.add("Category not found with id: " + taskDTO.getCategoryId());
+        }
+        if (taskDTO.getTagIds() != null) {
+            List<Long> missingTagIds = taskDTO.getTagIds().stream()
+                    .filter(tagId -> tagId != null && !tagsById.containsKey(tagId))
+                    .distinct()
+                    .collect(Collectors.toList());
+            if (!missingTagIds.isEmpty()) {
+                errors.add("Tags not found with ids: " + missingTagIds);
+            }
+        }
+        return errors;
     }
 
-    private TaskDTO convertToDTO(Task task) {
-        TaskDTO dto = new TaskDTO();
-        dto.setId(task.getId());
-        dto.setTitle(task.getTitle());
-        dto.setDescription(task.getDescription());
-        dto.setStatus(task.getStatus());
-        dto.setPriority(task.getPriority());
-        dto.setDueDate(task.getDueDate());
-        dto.setCreatedAt(task.getCreatedAt());
-        dto.setUpdatedAt(task.getUpdatedAt());
+    private Category findCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
+    }
+
+    private List<Tag> findTags(List<Long> tagIds) {
+        List<Long> distinctIds = tagIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, Tag> tagsById = tagRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
 
-        if (task.getCategory() != null) {
-            dto.setCategoryId(task.getCategory().getId());
-            dto.setCategoryName(task.getCategory().getName());
+        List<Long> missingIds = distinctIds.stream()
+                .filter(tagId -> !tagsById.containsKey(tagId))
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Tags not found with ids: " + missingIds);
         }
 
-        if (task.getTags() != null && !task.getTags().isEmpty()) {
-            dto.setTagIds(task.getTags().stream().map(Tag::getId).collect(Collectors.toList()));
-            dto.setTagNames(task.getTags().stream().map(Tag::getName).collect(Collectors.toList()));
+        return distinctIds.stream()
+                .map(tagsById::get)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasSameTags(Task task, List<Long> tagIds) {
+        Set<Long> currentIds = task.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> requestedIds = tagIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        return currentIds.equals(requestedIds);
+    }
+
+    private static String encodeCursor(Task task) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + task.getCreatedAt() + "|" + task.getId())
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PageCursor decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (!decoded.startsWith(CURSOR_PREFIX) || separator < 0) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            return new PageCursor(LocalDateTime.parse(decoded.substring(CURSOR_PREFIX.length(), separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
         }
+    }
 
-        return dto;
+    private record PageCursor(LocalDateTime createdAt, long id) {
     }
 }
@@ -0,0 +1,167 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.TaskSyncDTO;
+import com.portfolio.taskmanagement.exception.BadRequestException;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.TaskDeletion;
+import com.portfolio.taskmanagement.repository.TaskDeletionRepository;
+import com.portfolio.taskmanagement.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Answers "what changed since the last sync" from {@code tasks.updated_at} and the {@code task_deletions}
+ * tombstones, so a client that was offline fetches only the tasks that changed.
+ * <p>
+ * A sync token is a position (timestamp, task id) on the combined timeline of task writes and deletions.
+ * A write is stamped before its transaction commits, so a sync could see a later write before an earlier one
+ * commits. The final page of every sync therefore hands out a token at most {@code commit-lag} before the
+ * time of the sync, and the next sync repeats any change after it. Clients apply changes by id, so a
+ * repeated change is harmless.
+ */
+@Slf4j
+@Service
+public class TaskSyncService {
+
+    public static final int MAX_SYNC_SIZE = 500;
+
+    private static final String TOKEN_PREFIX = "sync:";
+    private static final Comparator<Position> TIMELINE = Comparator
+            .comparing(Position::time)
+            .thenComparing(Position::id);
+
+    private final TaskRepository taskRepository;
+    private final TaskDeletionRepository deletionRepository;
+    private final EntityManager entityManager;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    private record Position(LocalDateTime time, long id) {
+    }
+
+    public TaskSyncService(
+            TaskRepository taskRepository,
+            TaskDeletionRepository deletionRepository,
+            EntityManager entityManager,
+            @Value("${task-sync.commit-lag:5s}") Duration commitLag,
+            @Value("${task-sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.deletionRepository = deletionRepository;
+        this.entityManager = entityManager;
+        this.commitLag = commitLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSyncDTO sync(Long userId, String since, int size) {
+        if (size < 1) {
+            throw new BadRequestException("Sync size must be at least 1");
+        }
+        int limit = Math.min(size, MAX_SYNC_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        Position horizon = new Position(now.minus(commitLag), 0);
+
+        // Without a token, or once the deletions after it may have been purged, only a full reload is complete
+        Position from = since != null && !since.isBlank() ? decodeToken(since) : null;
+        if (from == null || from.time().isBefore(now.minus(tombstoneRetention))) {
+            return new TaskSyncDTO(List.of(), List.of(), encodeToken(horizon), false, true);
+        }
+
+        // Fetch one extra of each to learn whether more changes follow; the two lists are merged in timeline order
+        List<Task> tasks = taskRepository.findChangedAfter(userId, from.time(), from.id(), Limit.of(limit + 1));
+        List<TaskDeletion> deletions = deletionRepository.findDeletedAfter(
+                userId, from.time(), from.id(), Limit.of(limit + 1));
+
+        List<TaskDTO> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        Position last = from;
+        int taskIndex = 0;
+        int deletionIndex = 0;
+        while (changed.size() + deleted.size() < limit
+                && (taskIndex < tasks.size() || deletionIndex < deletions.size())) {
+            Position nextTask = taskIndex < tasks.size() ? position(tasks.get(taskIndex)) : null;
+            Position nextDeletion = deletionIndex < deletions.size() ? position(deletions.get(deletionIndex)) : null;
+            if (nextDeletion == null || (nextTask != null && TIMELINE.compare(nextTask, nextDeletion) < 0)) {
+                changed.add(TaskMapper.toDTO(tasks.get(taskIndex++)));
+                last = nextTask;
+            } else {
+                deleted.add(deletions.get(deletionIndex++).getTaskId());
+                last = nextDeletion;
+            }
+        }
+        boolean hasMore = taskIndex < tasks.size() || deletionIndex < deletions.size();
+
+        Position next = last;
+        if (!hasMore) {
+            // Step back to the horizon so writes still committing are picked up next time, but never behind since
+            next = TIMELINE.compare(last, horizon) > 0 ? horizon : last;
+            next = TIMELINE.compare(next, from) < 0 ? from : next;
+        }
+        return new TaskSyncDTO(changed, deleted, encodeToken(next), hasMore, false);
+    }
+
+    @Transactional
+    public void recordDeletion(Long taskId, Long userId) {
+        // Persist rather than save: the id is assigned, and save would look for an existing row first
+        entityManager.persist(new TaskDeletion(taskId, userId, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void deleteUser(Long userId) {
+        deletionRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Drops tombstones older than the retention; clients that last synced before that are told to reload.
+     */
+    @Scheduled(fixedDelayString = "${task-sync.purge-interval:PT1H}", initialDelayString = "${task-sync.purge-interval:PT1H}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = deletionRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} task tombstones", purged);
+        }
+    }
+
+    private static Position position(Task task) {
+        return new Position(task.getUpdatedAt(), task.getId());
+    }
+
+    private static Position position(TaskDeletion deletion) {
+        return new Position(deletion.getDeletedAt(), deletion.getTaskId());
+    }
+
+    private static String encodeToken(Position position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + position.time() + "|" + position.id()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decodeToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (!decoded.startsWith(TOKEN_PREFIX) || separator < 0) {
+                throw new BadRequestException("Invalid sync token: " + token);
+            }
+            return new Position(LocalDateTime.parse(decoded.substring(TOKEN_PREFIX.length(), separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid sync token: " + token);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.portfolio.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the task lists served to each user, keyed by user and filter.
+ * <p>
+ * Every user has a version that changes whenever one of their tasks changes, and a global epoch
+ * changes whenever shared reference data (category or tag names) changes. Both are part of the
+ * cache key and of the ETag, so invalidation is a counter bump and stale entries simply age out.
+ * <p>
+ * Versions live only in this instance and only hear about writes made here. With more than one instance
+ * behind a load balancer, set {@code task-view-cache.single-instance} to false: lists are then loaded on
+ * every request and no ETag is issued, since another instance's write would otherwise go unnoticed.
+ */
+@Component
+public class TaskViewCache {
+
+    // Seeded from the clock so versions issued before a restart are never reused
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private volatile long epoch = versionSequence.incrementAndGet();
+
+    // A forgotten version is simply replaced by a new one, which costs each client one full response
+    private final Cache<Long, Long> userVersions;
+    private final Cache<ViewKey, List<TaskDTO>> views;
+    private final boolean enabled;
+
+    public TaskViewCache(
+            @Value("${task-view-cache.max-tasks:200000}") long maxTasks,
+            @Value("${task-view-cache.max-users:100000}") long maxUsers,
+            @Value("${task-view-cache.ttl:60s}") Duration ttl,
+            @Value("${task-view-cache.single-instance:true}") boolean enabled,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.userVersions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .build();
+        this.views = Caffeine.newBuilder()
+                .maximumWeight(maxTasks)
+                .weigher((ViewKey key, List<TaskDTO> tasks) -> Math.max(1, tasks.size()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "taskViews");
+    }
+
+    public List<TaskDTO> get(Long userId, String filter, Supplier<List<TaskDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // The key is captured before loading, so a write that lands mid-load leaves this entry unreachable
+        ViewKey key = new ViewKey(userId, epoch, currentVersion(userId), filter);
+        return views.get(key, k -> List.copyOf(loader.get()));
+    }
+
+    // Null when the cache is off, so no response claims to be unchanged
+    public String getETag(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+        return "\"" + epoch + "-" + currentVersion(userId) + "\"";
+    }
+
+    public void invalidateUser(Long userId) {
+        afterCommit(() -> userVersions.put(userId, versionSequence.incrementAndGet()));
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            epoch = versionSequence.incrementAndGet();
+            views.invalidateAll();
+        });
+    }
+
+    private long currentVersion(Long userId) {
+        return userVersions.get(userId, id -> versionSequence.incrementAndGet());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        // Invalidating before commit would let a concurrent reader cache the pre-commit state again
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record ViewKey(Long userId, long epoch, long version, String filter) {
+    }
+}
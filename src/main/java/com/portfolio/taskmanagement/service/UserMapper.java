@@ -0,0 +1,28 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.model.User;
+
+/**
+ * Maps users to their API representation, which never includes the password.
+ */
+public final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    public static UserDTO toDTO(User user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setUsername(user.getUsername());
+        dto.setEmail(user.getEmail());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setRole(user.getRole());
+        dto.setActive(user.getActive());
+        dto.setCreatedAt(user.getCreatedAt());
+        dto.setUpdatedAt(user.getUpdatedAt());
+        dto.setPassword(null); // Never return password
+        return dto;
+    }
+}
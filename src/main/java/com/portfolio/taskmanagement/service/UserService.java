@@ -3,42 +3,66 @@ package com.portfolio.taskmanagement.service;
 import com.portfolio.taskmanagement.dto.UserDTO;
 import com.portfolio.taskmanagement.exception.DuplicateResourceException;
 import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
+import com.portfolio.taskmanagement.model.OutboxEvent;
 import com.portfolio.taskmanagement.model.User;
 import com.portfolio.taskmanagement.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.portfolio.taskmanagement.security.PasswordHashingService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TaskViewCache taskViewCache;
+    private final TaskCounterService taskCounterService;
+    private final TaskSyncService taskSyncService;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordHashingService passwordHashingService,
+            TaskViewCache taskViewCache,
+            TaskCounterService taskCounterService,
+            TaskSyncService taskSyncService,
+            OutboxService outboxService,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.taskViewCache = taskViewCache;
+        this.taskCounterService = taskCounterService;
+        this.taskSyncService = taskSyncService;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     public List<UserDTO> getAllUsers() {
         return userRepository.findAll().stream()
-                .map(this::convertToDTO)
+                .map(UserMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public UserDTO getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-        return convertToDTO(user);
+        return UserMapper.toDTO(user);
     }
 
     public UserDTO getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
-        return convertToDTO(user);
+        return UserMapper.toDTO(user);
     }
 
-    @Transactional
+    // Passwords are hashed before the transaction starts, and with open-in-view off no connection is held while
+    // BCrypt runs; the unique constraints still catch a duplicate that slips in meanwhile
     public UserDTO createUser(UserDTO userDTO) {
         if (userRepository.existsByUsername(userDTO.getUsername())) {
             throw new DuplicateResourceException("Username already exists: " + userDTO.getUsername());
@@ -48,66 +72,77 @@ public class UserService {
             throw new DuplicateResourceException("Email already exists: " + userDTO.getEmail());
         }
 
-        User user = new User();
-        user.setUsername(userDTO.getUsername());
-        user.setEmail(userDTO.getEmail());
-        user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
-        user.setFirstName(userDTO.getFirstName());
-        user.setLastName(userDTO.getLastName());
-        user.setRole(userDTO.getRole() != null ? userDTO.getRole() : User.Role.USER);
-        user.setActive(true);
-
-        User savedUser = userRepository.save(user);
-        return convertToDTO(savedUser);
+        String passwordHash = passwordHashingService.hash(userDTO.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setUsername(userDTO.getUsername());
+            user.setEmail(userDTO.getEmail());
+            user.setPassword(passwordHash);
+            user.setFirstName(userDTO.getFirstName());
+            user.setLastName(userDTO.getLastName());
+            // Sign-up is open, so a role in the request is ignored; admins assign roles through changeRole
+            user.setRole(User.Role.USER);
+            user.setActive(true);
+
+            User savedUser = userRepository.save(user);
+            taskCounterService.initialize(savedUser.getId());
+            return UserMapper.toDTO(savedUser);
+        });
     }
 
-    @Transactional
     public UserDTO updateUser(Long id, UserDTO userDTO) {
+        String passwordHash = userDTO.getPassword() != null && !userDTO.getPassword().isEmpty()
+                ? passwordHashingService.hash(userDTO.getPassword())
+                : null;
+
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+
+            if (!user.getUsername().equals(userDTO.getUsername()) &&
+                userRepository.existsByUsername(userDTO.getUsername())) {
+                throw new DuplicateResourceException("Username already exists: " + userDTO.getUsername());
+            }
+
+            if (!user.getEmail().equals(userDTO.getEmail()) &&
+                userRepository.existsByEmail(userDTO.getEmail())) {
+                throw new DuplicateResourceException("Email already exists: " + userDTO.getEmail());
+            }
+
+            user.setUsername(userDTO.getUsername());
+            user.setEmail(userDTO.getEmail());
+            user.setFirstName(userDTO.getFirstName());
+            user.setLastName(userDTO.getLastName());
+
+            if (passwordHash != null) {
+                user.setPassword(passwordHash);
+            }
+
+            User updatedUser = userRepository.save(user);
+            return UserMapper.toDTO(updatedUser);
+        });
+    }
+
+    // Takes effect in the user's next access token, at the latest when the current one expires
+    @Transactional
+    public UserDTO changeRole(Long id, User.Role role) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-
-        if (!user.getUsername().equals(userDTO.getUsername()) &&
-            userRepository.existsByUsername(userDTO.getUsername())) {
-            throw new DuplicateResourceException("Username already exists: " + userDTO.getUsername());
-        }
-
-        if (!user.getEmail().equals(userDTO.getEmail()) &&
-            userRepository.existsByEmail(userDTO.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + userDTO.getEmail());
-        }
-
-        user.setUsername(userDTO.getUsername());
-        user.setEmail(userDTO.getEmail());
-        user.setFirstName(userDTO.getFirstName());
-        user.setLastName(userDTO.getLastName());
-
-        if (userDTO.getPassword() != null && !userDTO.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(userDTO.getPassword()));
-        }
-
-        User updatedUser = userRepository.save(user);
-        return convertToDTO(updatedUser);
+        user.setRole(role);
+        return UserMapper.toDTO(userRepository.save(user));
     }
 
     @Transactional
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        // The user's tasks go with it through the cascade, so its counters and tombstones go as a whole too
+        taskCounterService.deleteUser(id);
+        taskSyncService.deleteUser(id);
         userRepository.delete(user);
-    }
-
-    private UserDTO convertToDTO(User user) {
-        UserDTO dto = new UserDTO();
-        dto.setId(user.getId());
-        dto.setUsername(user.getUsername());
-        dto.setEmail(user.getEmail());
-        dto.setFirstName(user.getFirstName());
-        dto.setLastName(user.getLastName());
-        dto.setRole(user.getRole());
-        dto.setActive(user.getActive());
-        dto.setCreatedAt(user.getCreatedAt());
-        dto.setUpdatedAt(user.getUpdatedAt());
-        dto.setPassword(null); // Never return password
-        return dto;
+        // Tasks removed by the cascade get no events of their own; consumers drop the user's tasks on this one
+        outboxService.append(OutboxEvent.AggregateType.USER, id, OutboxEvent.EventType.DELETED, id, null);
+        taskViewCache.invalidateUser(id);
     }
 }
@@ -0,0 +1,2 @@
+-- Task ids are allocated in blocks of 50 by Hibernate's pooled optimizer so inserts can be JDBC-batched
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,15 @@
+-- Composite indexes for the per-user task queries; user_id leads so each lookup stays within one user's rows
+CREATE INDEX idx_tasks_user_id_id ON tasks(user_id, id);
+CREATE INDEX idx_tasks_user_status ON tasks(user_id, status);
+CREATE INDEX idx_tasks_user_priority ON tasks(user_id, priority);
+CREATE INDEX idx_tasks_user_category ON tasks(user_id, category_id);
+CREATE INDEX idx_tasks_user_due_date ON tasks(user_id, due_date);
+
+-- Finding tasks by tag; the primary key (task_id, tag_id) only serves lookups by task
+CREATE INDEX idx_task_tags_tag_task ON task_tags(tag_id, task_id);
+
+-- Superseded by the composite indexes above; idx_tasks_category_id stays for ON DELETE SET NULL
+DROP INDEX IF EXISTS idx_tasks_user_id;
+DROP INDEX IF EXISTS idx_tasks_status;
+DROP INDEX IF EXISTS idx_tasks_priority;
+DROP INDEX IF EXISTS idx_tasks_due_date;
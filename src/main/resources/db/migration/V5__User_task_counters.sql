@@ -0,0 +1,15 @@
+-- Per-user task counts by status and priority, kept current by the application for badge reads
+CREATE TABLE user_task_counters (
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, status, priority),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Seed from the existing tasks; missing combinations are created as zero rows by the reconciliation job
+INSERT INTO user_task_counters (user_id, status, priority, task_count)
+SELECT user_id, status, priority, COUNT(*)
+FROM tasks
+GROUP BY user_id, status, priority;
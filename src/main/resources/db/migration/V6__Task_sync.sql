@@ -0,0 +1,12 @@
+-- Delta sync reads a user's tasks in updated_at order
+CREATE INDEX idx_tasks_user_updated_at ON tasks(user_id, updated_at);
+
+-- Tombstones of deleted tasks, purged by the application after the retention period
+CREATE TABLE task_deletions (
+    task_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_task_deletions_user_deleted_at ON task_deletions(user_id, deleted_at);
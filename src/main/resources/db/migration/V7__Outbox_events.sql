@@ -0,0 +1,12 @@
+-- Domain events written in the same transaction as the change, relayed and deleted by the application
+CREATE SEQUENCE outbox_events_id_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    user_id BIGINT,
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL
+);
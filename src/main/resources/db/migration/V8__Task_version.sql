@@ -0,0 +1,2 @@
+-- Optimistic locking: every write to a task increments its version, which clients see as the task's ETag
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Task pages follow (created_at, id) because pooled ids are not handed out in insertion order
+CREATE INDEX idx_tasks_user_created_at ON tasks(user_id, created_at);
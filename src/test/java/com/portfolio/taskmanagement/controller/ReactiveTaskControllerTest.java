@@ -0,0 +1,59 @@
+package com.portfolio.taskmanagement.controller;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.service.ReactiveTaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = ReactiveTaskController.class, properties = {
+        "reactive-reads.max-streams=1",
+        "reactive-reads.write-timeout=300ms"
+})
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveTaskService reactiveTaskService;
+
+    @Test
+    @WithMockUser
+    void streams_ShouldBeCappedAndStalledOnesCancelled() throws Exception {
+        when(reactiveTaskService.getAllTasksForUser(1L)).thenReturn(Flux.<TaskDTO>never());
+
+        MvcResult stalled = mockMvc.perform(get("/api/reactive/tasks")
+                        .param("userId", "1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult rejected = mockMvc.perform(get("/api/reactive/tasks")
+                        .param("userId", "1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        assertEquals(429, rejected.getResponse().getStatus());
+        assertEquals("1", rejected.getResponse().getHeader("Retry-After"));
+
+        // The stalled stream times out and gives its slot back
+        stalled.getAsyncResult(5000);
+        mockMvc.perform(get("/api/reactive/tasks")
+                        .param("userId", "1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+}
@@ -0,0 +1,167 @@
+package com.portfolio.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.service.TaskService;
+import com.portfolio.taskmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskConditionalUpdateTest {
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 1, 15, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private Long userId;
+    private TaskDTO task;
+
+    @BeforeEach
+    void setUp() {
+        UserDTO user = new UserDTO();
+        user.setUsername("etaguser");
+        user.setEmail("etaguser@example.com");
+        user.setPassword("password123");
+        userId = userService.createUser(user).getId();
+
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle("Versioned task");
+        taskDTO.setDescription("Original description");
+        taskDTO.setStatus(Task.Status.TODO);
+        taskDTO.setPriority(Task.Priority.LOW);
+        taskDTO.setDueDate(DUE_DATE);
+        task = taskService.createTask(taskDTO, userId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userService.deleteUser(userId);
+    }
+
+    @Test
+    void getTask_ShouldExposeVersionAsETag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/{id}", task.getId()).param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals("\"0\"", result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void updateTask_WithCurrentETag_ShouldUpdateAndBumpETag() throws Exception {
+        task.setTitle("Renamed");
+
+        MvcResult result = mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .param("userId", userId.toString())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals("\"1\"", result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals("Renamed", taskService.getTaskById(task.getId(), userId).getTitle());
+    }
+
+    @Test
+    void updateTask_WithStaleETag_ShouldFailPreconditionAndKeepTask() throws Exception {
+        task.setTitle("First writer");
+        taskService.updateTask(task.getId(), task, userId, null);
+        task.setTitle("Second writer");
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .param("userId", userId.toString())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals("First writer", taskService.getTaskById(task.getId(), userId).getTitle());
+    }
+
+    @Test
+    void patchTask_ShouldChangeOnlyGivenFields() throws Exception {
+        MvcResult result = mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .param("userId", userId.toString())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\",\"dueDate\":null}"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        TaskDTO patched = objectMapper.readValue(result.getResponse().getContentAsString(), TaskDTO.class);
+        assertEquals(Task.Status.IN_PROGRESS, patched.getStatus());
+        assertNull(patched.getDueDate());
+        assertEquals("Versioned task", patched.getTitle());
+        assertEquals("Original description", patched.getDescription());
+        assertEquals(Task.Priority.LOW, patched.getPriority());
+        assertEquals(1L, patched.getVersion());
+        assertEquals("\"1\"", result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals(1L, taskService.getTaskCounters(userId).getByStatus().get(Task.Status.IN_PROGRESS));
+    }
+
+    @Test
+    void patchTask_WithStaleETag_ShouldFailPrecondition() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .param("userId", userId.toString())
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Too late\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals("Versioned task", taskService.getTaskById(task.getId(), userId).getTitle());
+    }
+
+    @Test
+    void patchTask_WithNullTitle_ShouldBeRejected() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .param("userId", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":null}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkUpdate_ShouldBumpVersion() {
+        BulkTaskUpdateDTO update = new BulkTaskUpdateDTO();
+        update.setIds(List.of(task.getId()));
+        update.setPriority(Task.Priority.HIGH);
+
+        taskService.updateTasks(update, userId);
+
+        assertEquals(1L, taskService.getTaskById(task.getId(), userId).getVersion());
+    }
+}
@@ -0,0 +1,265 @@
+package com.portfolio.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateDTO;
+import com.portfolio.taskmanagement.dto.CategoryDTO;
+import com.portfolio.taskmanagement.dto.TagDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.metrics.SqlStatementCountFilter;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.service.CategoryService;
+import com.portfolio.taskmanagement.service.TagService;
+import com.portfolio.taskmanagement.service.TaskService;
+import com.portfolio.taskmanagement.service.TaskSyncService;
+import com.portfolio.taskmanagement.service.TaskViewCache;
+import com.portfolio.taskmanagement.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the TaskController endpoints, measured with cold caches over tasks that all have a
+ * category and tags, so a lazy load per task shows up as a blown budget. Raise a budget only together with
+ * the change that needs the extra statement. Writes allow one statement more than measured for the sequence
+ * call that pooled id allocation makes every 50 ids.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskControllerStatementBudgetTest {
+
+    private static final int TASKS = 20;
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 1, 15, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private TaskViewCache taskViewCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long categoryId;
+    private List<Long> tagIds;
+    private List<Long> taskIds;
+
+    @BeforeAll
+    void seed() {
+        UserDTO user = new UserDTO();
+        user.setUsername("budgetuser");
+        user.setEmail("budgetuser@example.com");
+        user.setPassword("password123");
+        userId = userService.createUser(user).getId();
+        categoryId = categoryService.createCategory(new CategoryDTO(null, "Budget", null, "#000000")).getId();
+        tagIds = List.of(
+                tagService.createTag(new TagDTO(null, "budget-a")).getId(),
+                tagService.createTag(new TagDTO(null, "budget-b")).getId());
+
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(task("Budget task " + i));
+        }
+        taskIds = new ArrayList<>();
+        taskService.createTasks(tasks, userId).getItems().forEach(result -> taskIds.add(result.getId()));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        userService.deleteUser(userId);
+        categoryService.deleteCategory(categoryId);
+        tagIds.forEach(tagService::deleteTag);
+    }
+
+    @Test
+    void getAllTasks_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks").param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTaskPage_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(3, get("/api/tasks/page").param("userId", userId.toString()).param("size", "10"));
+    }
+
+    @Test
+    void searchTasks_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(3, get("/api/tasks/search")
+                .param("userId", userId.toString())
+                .param("status", "TODO")
+                .param("tagId", tagIds.get(0).toString()));
+    }
+
+    @Test
+    void getTaskStats_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(4, get("/api/tasks/stats").param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTaskCounters_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/counters").param("userId", userId.toString()));
+    }
+
+    @Test
+    void syncTasks_ShouldStayWithinBudget() throws Exception {
+        String token = taskSyncService.sync(userId, null, 500).getNextToken();
+        // Changes, tombstones and one batch of tags, plus a lookup per distinct tag when a tag collection
+        // cached by another request still points at tags that are no longer cached
+        assertWithinBudget(3 + tagIds.size(), get("/api/tasks/sync")
+                .param("userId", userId.toString())
+                .param("since", token));
+    }
+
+    @Test
+    void getTaskById_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/{id}", taskIds.get(0)).param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTasksByStatus_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/status/{status}", Task.Status.TODO).param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTasksByPriority_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/priority/{priority}", Task.Priority.HIGH)
+                .param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTasksByCategory_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/category/{categoryId}", categoryId).param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTasksByTag_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/tag/{tagId}", tagIds.get(0)).param("userId", userId.toString()));
+    }
+
+    @Test
+    void getTasksDueBetween_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(1, get("/api/tasks/due-between")
+                .param("userId", userId.toString())
+                .param("start", DUE_DATE.minusDays(1).toString())
+                .param("end", DUE_DATE.plusDays(1).toString()));
+    }
+
+    @Test
+    void createTask_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget(7, post("/api/tasks")
+                .param("userId", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task("Created task"))));
+    }
+
+    @Test
+    void createTasksInBulk_ShouldStayWithinBudget() throws Exception {
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(task("Bulk created task " + i));
+        }
+        assertWithinBudget(6, post("/api/tasks/bulk")
+                .param("userId", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(tasks)));
+    }
+
+    @Test
+    void updateTasksInBulk_ShouldStayWithinBudget() throws Exception {
+        BulkTaskUpdateDTO update = new BulkTaskUpdateDTO();
+        update.setIds(taskIds.subList(0, 5));
+        update.setPriority(Task.Priority.MEDIUM);
+        assertWithinBudget(6, patch("/api/tasks/bulk")
+                .param("userId", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)));
+    }
+
+    @Test
+    void updateTask_ShouldStayWithinBudget() throws Exception {
+        Long id = taskService.createTask(task("Task to update"), userId).getId();
+        TaskDTO update = task("Updated task");
+        update.setStatus(Task.Status.IN_PROGRESS);
+        assertWithinBudget(6, put("/api/tasks/{id}", id)
+                .param("userId", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)));
+    }
+
+    @Test
+    void patchTask_ShouldStayWithinBudget() throws Exception {
+        Long id = taskService.createTask(task("Task to patch"), userId).getId();
+        assertWithinBudget(7, patch("/api/tasks/{id}", id)
+                .param("userId", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\",\"title\":\"Patched task\"}"));
+    }
+
+    @Test
+    void deleteTask_ShouldStayWithinBudget() throws Exception {
+        Long id = taskService.createTask(task("Task to delete"), userId).getId();
+        assertWithinBudget(7, delete("/api/tasks/{id}", id).param("userId", userId.toString()));
+    }
+
+    private void assertWithinBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        taskViewCache.invalidateAll();
+
+        MvcResult result = mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+        String header = result.getResponse().getHeader(SqlStatementCountFilter.HEADER);
+        assertNotNull(header, "Missing " + SqlStatementCountFilter.HEADER + " header");
+        int statements = Integer.parseInt(header);
+        assertTrue(statements <= budget, () -> result.getRequest().getMethod() + " "
+                + result.getRequest().getRequestURI() + " ran " + statements + " statements, budget is " + budget);
+    }
+
+    private TaskDTO task(String title) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(title);
+        task.setStatus(Task.Status.TODO);
+        task.setPriority(Task.Priority.HIGH);
+        task.setDueDate(DUE_DATE);
+        task.setCategoryId(categoryId);
+        task.setTagIds(tagIds);
+        return task;
+    }
+}
@@ -1,9 +1,17 @@
 package com.portfolio.taskmanagement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.BulkTaskItemResultDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskResultDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateResultDTO;
 import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.TaskPageDTO;
+import com.portfolio.taskmanagement.dto.TaskSearchResultDTO;
 import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.service.TaskChangeFeed;
 import com.portfolio.taskmanagement.service.TaskService;
+import com.portfolio.taskmanagement.service.TaskSyncService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,9 +23,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +47,12 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskChangeFeed taskChangeFeed;
+
+    @MockBean
+    private TaskSyncService taskSyncService;
+
     private TaskDTO testTaskDTO;
 
     @BeforeEach
@@ -59,6 +77,71 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Test Task"));
     }
 
+    @Test
+    @WithMockUser
+    void getAllTasks_WhenListCacheIsOff_ShouldIgnoreIfNoneMatch() throws Exception {
+        when(taskService.getTaskListETag(1L)).thenReturn(null);
+        when(taskService.getAllTasksForUser(1L)).thenReturn(Arrays.asList(testTaskDTO));
+
+        mockMvc.perform(get("/api/tasks")
+                .param("userId", "1")
+                .header("If-None-Match", "\"1-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_WhenETagMatches_ShouldReturnNotModifiedWithoutLoadingTasks() throws Exception {
+        when(taskService.getTaskListETag(1L)).thenReturn("\"1-7\"");
+
+        mockMvc.perform(get("/api/tasks")
+                .param("userId", "1")
+                .header("If-None-Match", "\"1-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-7\""));
+
+        verify(taskService, never()).getAllTasksForUser(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskPage_ShouldReturnPageWithCursor() throws Exception {
+        TaskPageDTO page = new TaskPageDTO(Arrays.asList(testTaskDTO), 1, true, "aWQ6MQ");
+        when(taskService.getTaskPage(1L, null, 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tasks/page")
+                .param("userId", "1")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("aWQ6MQ"));
+    }
+
+    @Test
+    @WithMockUser
+    void searchTasks_ShouldBindRepeatedFiltersAndSort() throws Exception {
+        TaskSearchResultDTO result = new TaskSearchResultDTO(Arrays.asList(testTaskDTO), 0, 1, false, null);
+        when(taskService.searchTasks(eq(1L),
+                argThat(criteria -> criteria.getStatus().equals(Set.of(Task.Status.TODO, Task.Status.IN_PROGRESS))
+                        && criteria.getTagId().equals(Set.of(3L, 4L))
+                        && "report".equals(criteria.getText())),
+                eq(0), eq(20), eq(Arrays.asList("dueDate", "desc")), eq(false)))
+                .thenReturn(result);
+
+        mockMvc.perform(get("/api/tasks/search")
+                .param("userId", "1")
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("tagId", "3", "4")
+                .param("text", "report")
+                .param("sort", "dueDate,desc")
+                .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
     @Test
     @WithMockUser
     void createTask_ShouldReturnCreatedTask() throws Exception {
@@ -72,4 +155,106 @@ class TaskControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title").value("Test Task"));
     }
+
+    @Test
+    @WithMockUser
+    void createTasksFromNdjson_ShouldParseEveryLine() throws Exception {
+        BulkTaskResultDTO result = new BulkTaskResultDTO(2, 0, Arrays.asList(
+                new BulkTaskItemResultDTO(0, BulkTaskItemResultDTO.Status.CREATED, 1L, null),
+                new BulkTaskItemResultDTO(1, BulkTaskItemResultDTO.Status.CREATED, 2L, null)));
+        when(taskService.createTasks(argThat(tasks -> tasks.size() == 2), eq(1L))).thenReturn(result);
+
+        String ndjson = objectMapper.writeValueAsString(testTaskDTO) + "\n" + objectMapper.writeValueAsString(testTaskDTO) + "\n";
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .param("userId", "1")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson)
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.items[1].id").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void createTasks_ShouldPassNullItemsOnToTheService() throws Exception {
+        BulkTaskResultDTO result = new BulkTaskResultDTO(1, 1, Arrays.asList(
+                new BulkTaskItemResultDTO(0, BulkTaskItemResultDTO.Status.FAILED, null, List.of("Task must not be null")),
+                new BulkTaskItemResultDTO(1, BulkTaskItemResultDTO.Status.CREATED, 1L, null)));
+        when(taskService.createTasks(argThat(tasks -> tasks.size() == 2 && tasks.get(0) == null), eq(1L)))
+                .thenReturn(result);
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .param("userId", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[null, " + objectMapper.writeValueAsString(testTaskDTO) + "]")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].status").value("FAILED"));
+    }
+
+    @Test
+    @WithMockUser
+    void createTasksFromNdjson_ShouldPassNullLinesOnToTheService() throws Exception {
+        BulkTaskResultDTO result = new BulkTaskResultDTO(1, 1, Arrays.asList(
+                new BulkTaskItemResultDTO(0, BulkTaskItemResultDTO.Status.CREATED, 1L, null),
+                new BulkTaskItemResultDTO(1, BulkTaskItemResultDTO.Status.FAILED, null, List.of("Task must not be null"))));
+        when(taskService.createTasks(argThat(tasks -> tasks.size() == 2 && tasks.get(1) == null), eq(1L)))
+                .thenReturn(result);
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .param("userId", "1")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(objectMapper.writeValueAsString(testTaskDTO) + "\nnull\n")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[1].status").value("FAILED"));
+    }
+
+    @Test
+    @WithMockUser
+    void createTasks_WhenArrayExceedsLimit_ShouldRejectWhileParsing() throws Exception {
+        String tasks = "[" + "{},".repeat(TaskService.MAX_BULK_SIZE) + "{}]";
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                .param("userId", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(tasks)
+                .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Bulk requests are limited to " + TaskService.MAX_BULK_SIZE + " tasks"));
+
+        verify(taskService, never()).createTasks(any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void createTasks_WhenBodyIsNotAnArray_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk")
+                .param("userId", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testTaskDTO))
+                .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).createTasks(any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void updateTasks_ShouldReturnUpdatedCount() throws Exception {
+        BulkTaskUpdateDTO update = new BulkTaskUpdateDTO();
+        update.setIds(Arrays.asList(1L, 2L));
+        update.setStatus(Task.Status.ARCHIVED);
+        when(taskService.updateTasks(any(BulkTaskUpdateDTO.class), eq(1L))).thenReturn(new BulkTaskUpdateResultDTO(2));
+
+        mockMvc.perform(patch("/api/tasks/bulk")
+                .param("userId", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update))
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+    }
 }
@@ -0,0 +1,50 @@
+package com.portfolio.taskmanagement.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The requests of {@code Postman_Collection.json}, with the host stripped so they can be sent to any server.
+ */
+final class PostmanCollection {
+
+    record Request(String name, String slug, String method, String pathAndQuery, String body) {
+    }
+
+    private PostmanCollection() {
+    }
+
+    static List<Request> load(Path path, ObjectMapper objectMapper) throws IOException {
+        List<Request> requests = new ArrayList<>();
+        collect(objectMapper.readTree(path.toFile()).path("item"), requests);
+        return requests;
+    }
+
+    private static void collect(JsonNode items, List<Request> requests) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collect(item.get("item"), requests);
+                continue;
+            }
+            JsonNode request = item.get("request");
+            JsonNode url = request.get("url");
+            URI uri = URI.create(url.isTextual() ? url.asText() : url.path("raw").asText());
+            String pathAndQuery = uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+            String body = request.path("body").path("raw").asText(null);
+            String name = item.get("name").asText();
+            requests.add(new Request(name, slug(name), request.get("method").asText(), pathAndQuery, body));
+        }
+    }
+
+    // "Get Tasks by Status" -> "get-tasks-by-status", used as the key in loadtest.properties
+    static String slug(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+    }
+}
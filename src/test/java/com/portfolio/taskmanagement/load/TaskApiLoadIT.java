@@ -0,0 +1,364 @@
+package com.portfolio.taskmanagement.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.taskmanagement.dto.CategoryDTO;
+import com.portfolio.taskmanagement.dto.TagDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.service.CategoryService;
+import com.portfolio.taskmanagement.service.TagService;
+import com.portfolio.taskmanagement.service.TaskService;
+import com.portfolio.taskmanagement.service.UserService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays a weighted mix of the Postman collection against the application on an embedded H2 database and
+ * checks the latency and throughput objectives in {@code loadtest.properties}.
+ * <p>
+ * Clients are closed-loop, so a stall delays the requests queued behind it instead of showing up in their
+ * latency; the throughput objective is there to catch that. Per-endpoint HdrHistogram interval logs and a
+ * summary are written to {@code target/loadtest}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "outbox.file.path=target/loadtest/outbox-events.ndjson"
+})
+class TaskApiLoadIT {
+
+    private static final Path COLLECTION = Path.of("Postman_Collection.json");
+    private static final Path REPORT_DIR = Path.of("target", "loadtest");
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicLong uniqueSuffix = new AtomicLong();
+
+    private Properties settings;
+    private List<Long> userIds;
+    private List<Long> categoryIds;
+    private List<Long> tagIds;
+
+    @Test
+    void taskApi_ShouldMeetLatencyAndThroughputObjectives() throws Exception {
+        settings = loadSettings();
+        seed();
+
+        List<PostmanCollection.Request> mix = weightedMix(PostmanCollection.load(COLLECTION, objectMapper));
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        mix.stream().map(PostmanCollection.Request::slug).distinct()
+                .forEach(slug -> stats.put(slug, new EndpointStats()));
+
+        Duration warmup = Duration.parse(setting("warmup"));
+        Duration duration = Duration.parse(setting("duration"));
+        int clients = Integer.parseInt(setting("clients"));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        Files.createDirectories(REPORT_DIR);
+        Map<String, HistogramLogWriter> logs = new LinkedHashMap<>();
+        for (String slug : stats.keySet()) {
+            HistogramLogWriter log = new HistogramLogWriter(REPORT_DIR.resolve(slug + ".hlog").toFile());
+            log.outputLogFormatVersion();
+            log.outputStartTime(System.currentTimeMillis());
+            log.outputLegend();
+            logs.put(slug, log);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < end) {
+                    PostmanCollection.Request request = mix.get(random.nextInt(mix.size()));
+                    long sent = System.nanoTime();
+                    boolean success = send(httpClient, request);
+                    if (sent >= measureFrom) {
+                        stats.get(request.slug()).record(System.nanoTime() - sent, success);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            if (System.nanoTime() >= measureFrom) {
+                stats.forEach((slug, endpoint) -> logs.get(slug).outputIntervalHistogram(endpoint.interval()));
+            }
+        }
+        stats.forEach((slug, endpoint) -> {
+            logs.get(slug).outputIntervalHistogram(endpoint.interval());
+            logs.get(slug).close();
+        });
+
+        report(stats, duration);
+        assertObjectives(stats, duration);
+    }
+
+    private Properties loadSettings() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/loadtest.properties")) {
+            properties.load(in);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest."))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return properties;
+    }
+
+    private String setting(String key) {
+        return settings.getProperty("loadtest." + key);
+    }
+
+    private void seed() {
+        userIds = new ArrayList<>();
+        categoryIds = new ArrayList<>();
+        tagIds = new ArrayList<>();
+        for (int i = 0; i < Integer.parseInt(setting("categories")); i++) {
+            categoryIds.add(categoryService.createCategory(
+                    new CategoryDTO(null, "Seed category " + i, null, "#3366FF")).getId());
+        }
+        for (int i = 0; i < Integer.parseInt(setting("tags")); i++) {
+            tagIds.add(tagService.createTag(new TagDTO(null, "seed-tag-" + i)).getId());
+        }
+
+        int tasksPerUser = Integer.parseInt(setting("tasks-per-user"));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Task.Status[] statuses = Task.Status.values();
+        Task.Priority[] priorities = Task.Priority.values();
+        for (int u = 0; u < Integer.parseInt(setting("users")); u++) {
+            UserDTO user = new UserDTO();
+            user.setUsername("seeduser" + u);
+            user.setEmail("seeduser" + u + "@load.test");
+            user.setPassword("password123");
+            Long userId = userService.createUser(user).getId();
+            userIds.add(userId);
+
+            for (int from = 0; from < tasksPerUser; from += SEED_BATCH_SIZE) {
+                List<TaskDTO> batch = new ArrayList<>();
+                for (int t = from; t < Math.min(tasksPerUser, from + SEED_BATCH_SIZE); t++) {
+                    TaskDTO task = new TaskDTO();
+                    task.setTitle("Seed task " + t);
+                    task.setDescription("Seeded for the load test");
+                    task.setStatus(statuses[random.nextInt(statuses.length)]);
+                    task.setPriority(priorities[random.nextInt(priorities.length)]);
+                    task.setCategoryId(randomOf(categoryIds));
+                    task.setTagIds(randomTags());
+                    batch.add(task);
+                }
+                taskService.createTasks(batch, userId);
+            }
+        }
+    }
+
+    // Each collection item appears as many times as its weight, so a uniform pick follows the configured mix
+    private List<PostmanCollection.Request> weightedMix(List<PostmanCollection.Request> requests) {
+        List<PostmanCollection.Request> mix = new ArrayList<>();
+        for (PostmanCollection.Request request : requests) {
+            int weight = Integer.parseInt(settings.getProperty("loadtest.mix." + request.slug(), "0"));
+            for (int i = 0; i < weight; i++) {
+                mix.add(request);
+            }
+        }
+        assertTrue(!mix.isEmpty(), "No collection item has a loadtest.mix weight");
+        return mix;
+    }
+
+    private boolean send(HttpClient httpClient, PostmanCollection.Request request) {
+        HttpRequest.BodyPublisher body = request.body() != null
+                ? HttpRequest.BodyPublishers.ofString(rewriteBody(request.body()))
+                : HttpRequest.BodyPublishers.noBody();
+        String pathAndQuery = request.pathAndQuery().replaceAll("userId=\\d+", "userId=" + randomOf(userIds));
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + pathAndQuery))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(request.method(), body)
+                .build();
+        try {
+            int status = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Points the collection's sample bodies at seeded data and keeps unique fields from colliding
+    private String rewriteBody(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            if (!(node instanceof ObjectNode json)) {
+                return body;
+            }
+            long suffix = uniqueSuffix.incrementAndGet();
+            if (json.has("username")) {
+                json.put("username", "loaduser" + suffix);
+            }
+            if (json.has("email")) {
+                json.put("email", "loaduser" + suffix + "@load.test");
+            }
+            if (json.has("name")) {
+                json.put("name", json.get("name").asText() + "-" + suffix);
+            }
+            if (json.has("categoryId")) {
+                json.put("categoryId", randomOf(categoryIds));
+            }
+            if (json.has("tagIds")) {
+                ArrayNode tags = json.putArray("tagIds");
+                randomTags().forEach(tags::add);
+            }
+            return objectMapper.writeValueAsString(json);
+        } catch (IOException e) {
+            return body;
+        }
+    }
+
+    private List<Long> randomTags() {
+        if (tagIds.isEmpty()) {
+            return List.of();
+        }
+        Long first = randomOf(tagIds);
+        Long second = randomOf(tagIds);
+        return first.equals(second) ? List.of(first) : List.of(first, second);
+    }
+
+    private static Long randomOf(List<Long> ids) {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private void report(Map<String, EndpointStats> stats, Duration duration) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalCount = 0;
+        long totalErrors = 0;
+
+        PrintStream out = System.out;
+        out.printf("%n%-22s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().total();
+            long count = histogram.getTotalCount();
+            long errors = entry.getValue().errors();
+            totalCount += count;
+            totalErrors += errors;
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("errors", errors);
+            summary.put("throughput", count / seconds);
+            summary.put("p50Ms", millis(histogram, 50));
+            summary.put("p90Ms", millis(histogram, 90));
+            summary.put("p99Ms", millis(histogram, 99));
+            summary.put("p999Ms", millis(histogram, 99.9));
+            summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+            endpoints.put(entry.getKey(), summary);
+
+            out.printf("%-22s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), count, errors,
+                    count / seconds, millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                    millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+        }
+        out.printf("%-22s %8d %7d %9.1f%n%n", "total", totalCount, totalErrors, totalCount / seconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", Integer.parseInt(setting("clients")));
+        report.put("durationSeconds", seconds);
+        report.put("requests", totalCount);
+        report.put("errors", totalErrors);
+        report.put("throughput", totalCount / seconds);
+        report.put("endpoints", endpoints);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT_DIR.resolve("summary.json").toFile(), report);
+    }
+
+    private void assertObjectives(Map<String, EndpointStats> stats, Duration duration) {
+        List<Executable> objectives = new ArrayList<>();
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            String slug = entry.getKey();
+            Histogram histogram = entry.getValue().total();
+            totalCount += histogram.getTotalCount();
+            totalErrors += entry.getValue().errors();
+
+            String p99 = settings.getProperty("loadtest.slo." + slug + ".p99");
+            if (p99 != null) {
+                double limitMs = Duration.parse(p99).toNanos() / 1_000_000.0;
+                double actualMs = millis(histogram, 99);
+                objectives.add(() -> assertTrue(actualMs <= limitMs,
+                        () -> slug + " p99 " + actualMs + " ms exceeds " + limitMs + " ms"));
+            }
+        }
+
+        double errorRate = totalCount == 0 ? 1 : (double) totalErrors / totalCount;
+        double maxErrorRate = Double.parseDouble(setting("slo.max-error-rate"));
+        objectives.add(() -> assertTrue(errorRate <= maxErrorRate,
+                () -> "Error rate " + errorRate + " exceeds " + maxErrorRate));
+
+        double throughput = totalCount / (duration.toMillis() / 1000.0);
+        double minThroughput = Double.parseDouble(setting("slo.min-throughput"));
+        objectives.add(() -> assertTrue(throughput >= minThroughput,
+                () -> "Throughput " + throughput + " req/s is below " + minThroughput + " req/s"));
+
+        assertAll("Load test objectives", objectives);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.portfolio.taskmanagement.metrics;
+
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsAspectTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        UserDTO user = new UserDTO();
+        user.setUsername("metricsuser");
+        user.setEmail("metricsuser@example.com");
+        user.setPassword("password123");
+        userId = userService.createUser(user).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userService.deleteUser(userId);
+    }
+
+    @Test
+    void taskRequest_ShouldRecordServiceQueryAndSerializationTimersForTheEndpoint() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("userId", userId.toString()))
+                .andExpect(status().isOk());
+
+        Timer serviceCall = meterRegistry.find("service.calls")
+                .tags("class", "TaskService", "method", "getAllTasksForUser", "uri", "/api/tasks",
+                        "outcome", "SUCCESS")
+                .timer();
+        assertNotNull(serviceCall);
+        assertTrue(serviceCall.count() >= 1);
+        assertFalse(meterRegistry.find("task.repository.queries").tag("uri", "/api/tasks").timers().isEmpty());
+        assertNotNull(meterRegistry.find("task.repository.rows").summary());
+        assertNotNull(meterRegistry.find("http.server.serialization").tag("uri", "/api/tasks").timer());
+    }
+
+    @Test
+    void missingTask_ShouldRecordClientErrorOutcome() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", Long.MAX_VALUE).param("userId", userId.toString()))
+                .andExpect(status().isNotFound());
+
+        assertNotNull(meterRegistry.find("service.calls")
+                .tags("class", "TaskService", "method", "getTaskById", "uri", "/api/tasks/{id}",
+                        "outcome", "CLIENT_ERROR", "exception", "ResourceNotFoundException")
+                .timer());
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldExposeApplicationAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/api/users"));
+
+        mockMvc.perform(get("/actuator/prometheus").with(user("ops").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_calls_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_second_level_cache_requests")));
+    }
+
+    @Test
+    void metricsEndpoints_ShouldRequireAnAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.active"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus").with(user("someone").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(user("someone").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+}
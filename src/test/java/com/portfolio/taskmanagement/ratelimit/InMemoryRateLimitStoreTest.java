@@ -0,0 +1,68 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final RateLimit LIMIT = new RateLimit(3, 10);
+    private static final long INTERVAL = Duration.ofMillis(100).toNanos();
+
+    private AtomicLong clock;
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(-5_000_000_000L);
+        store = new InMemoryRateLimitStore(1000, Duration.ofMinutes(5), clock::get);
+    }
+
+    @Test
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        assertEquals(0, store.tryConsume("user:1:read", LIMIT));
+        assertEquals(0, store.tryConsume("user:1:read", LIMIT));
+        assertEquals(0, store.tryConsume("user:1:read", LIMIT));
+
+        assertEquals(INTERVAL, store.tryConsume("user:1:read", LIMIT));
+    }
+
+    @Test
+    void tryConsume_ShouldRefillAtConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("user:1:read", LIMIT);
+        }
+
+        clock.addAndGet(INTERVAL / 2);
+        assertEquals(INTERVAL / 2, store.tryConsume("user:1:read", LIMIT));
+
+        clock.addAndGet(INTERVAL / 2);
+        assertEquals(0, store.tryConsume("user:1:read", LIMIT));
+        assertTrue(store.tryConsume("user:1:read", LIMIT) > 0);
+    }
+
+    @Test
+    void tryConsume_ShouldNotStoreMoreThanCapacity() {
+        store.tryConsume("user:1:read", LIMIT);
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryConsume("user:1:read", LIMIT));
+        }
+        assertTrue(store.tryConsume("user:1:read", LIMIT) > 0);
+    }
+
+    @Test
+    void tryConsume_ShouldKeepBucketsApart() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("user:1:read", LIMIT);
+        }
+
+        assertEquals(0, store.tryConsume("user:1:write", LIMIT));
+        assertEquals(0, store.tryConsume("user:2:read", LIMIT));
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "rate-limit.bulk.capacity=2",
+        "rate-limit.bulk.per-second=0.001"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void bulkRequests_ShouldBeThrottledOnceQuotaIsSpent() throws Exception {
+        double throttledBefore = throttled();
+
+        assertNotEquals(429, perform(bulkCreate("910001")).getResponse().getStatus());
+        assertNotEquals(429, perform(bulkCreate("910001")).getResponse().getStatus());
+        MvcResult throttled = perform(bulkCreate("910001"));
+
+        assertEquals(429, throttled.getResponse().getStatus());
+        assertEquals("1000", throttled.getResponse().getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(throttledBefore + 1, throttled());
+    }
+
+    @Test
+    void spentBulkQuota_ShouldNotAffectReadsOrOtherUsers() throws Exception {
+        perform(bulkCreate("910002"));
+        perform(bulkCreate("910002"));
+        assertEquals(429, perform(bulkCreate("910002")).getResponse().getStatus());
+
+        assertNotEquals(429, perform(get("/api/tasks").param("userId", "910002")).getResponse().getStatus());
+        assertNotEquals(429, perform(bulkCreate("910003")).getResponse().getStatus());
+    }
+
+    @Test
+    void requestWithoutToken_ShouldBeChargedToClientAddressWhenTokensAreRequired() throws Exception {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.isEnabled()).thenReturn(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setParameter("userId", "910004");
+        request.setRemoteAddr("203.0.113.7");
+
+        new RateLimitFilter(rateLimiter, objectMapper, true)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        new RateLimitFilter(rateLimiter, objectMapper, false)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire("ip:203.0.113.7", EndpointClass.READ);
+        verify(rateLimiter).tryAcquire("user:910004", EndpointClass.READ);
+    }
+
+    private MockHttpServletRequestBuilder bulkCreate(String userId) {
+        return post("/api/tasks/bulk")
+                .param("userId", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]");
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn();
+    }
+
+    private double throttled() {
+        return meterRegistry.get("http.server.requests.throttled").tag("class", "bulk").counter().count();
+    }
+}
@@ -0,0 +1,102 @@
+package com.portfolio.taskmanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies the Flyway migrations to PostgreSQL and lets Hibernate validate the entities against the result,
+ * the way the prod profile starts. The context only comes up if every mapped table, column and sequence
+ * exists with a matching type. Skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "outbox.relay.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + POSTGRES.getDatabaseName());
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_ShouldAllApplyAndMatchTheEntities() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(50, sequenceIncrement("public", "tasks_id_seq"));
+        assertEquals(50, sequenceIncrement("public", "outbox_events_id_seq"));
+    }
+
+    // A database built by hand from V1 and V2 is baselined with the prod settings and must still get V3 onwards
+    @Test
+    void baseline_ShouldStillApplyLaterMigrationsToHandBuiltDatabase() {
+        try {
+            Flyway.configure().dataSource(dataSource).schemas("legacy").target("2").load().migrate();
+            jdbcTemplate.execute("DROP TABLE legacy.flyway_schema_history");
+
+            Properties prod = prodProperties();
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .schemas("legacy")
+                    .baselineOnMigrate(Boolean.parseBoolean(prod.getProperty("spring.flyway.baseline-on-migrate")))
+                    .baselineVersion(prod.getProperty("spring.flyway.baseline-version"))
+                    .load()
+                    .migrate();
+
+            assertEquals(50, sequenceIncrement("legacy", "tasks_id_seq"));
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns "
+                    + "WHERE table_schema = 'legacy' AND table_name = 'tasks' AND column_name = 'version'",
+                    Integer.class));
+        } finally {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS legacy CASCADE");
+        }
+    }
+
+    private long sequenceIncrement(String schema, String sequence) {
+        return jdbcTemplate.queryForObject("SELECT increment_by FROM pg_sequences WHERE schemaname = ? AND sequencename = ?",
+                Long.class, schema, sequence);
+    }
+
+    private static Properties prodProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application-prod.yml"));
+        return yaml.getObject();
+    }
+}
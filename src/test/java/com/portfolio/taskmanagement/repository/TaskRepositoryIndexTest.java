@@ -0,0 +1,194 @@
+package com.portfolio.taskmanagement.repository;
+
+import com.portfolio.taskmanagement.model.Category;
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs each task query against H2 in PostgreSQL mode and checks the plan of the SQL Hibernate
+ * actually generated, so a changed query or a dropped index shows up as a failing test.
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indexdb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.portfolio.taskmanagement.repository.TaskRepositoryIndexTest$SqlCapture"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskRepositoryIndexTest {
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 1, 15, 12, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Category category;
+    private Tag tag;
+
+    @BeforeAll
+    void seedTasks() {
+        // ANALYZE commits, so the data is seeded once in its own transaction rather than per test
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> persistTasks());
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private void persistTasks() {
+        category = new Category();
+        category.setName("index-category");
+        entityManager.persist(category);
+
+        tag = new Tag();
+        tag.setName("index-tag");
+        entityManager.persist(tag);
+
+        // Enough users and rows that a full scan is clearly more expensive than an index lookup
+        List<User> users = new ArrayList<>();
+        for (int u = 0; u < 20; u++) {
+            User owner = new User();
+            owner.setUsername("index-user-" + u);
+            owner.setEmail("index-user-" + u + "@example.com");
+            owner.setPassword("password");
+            entityManager.persist(owner);
+            users.add(owner);
+        }
+        user = users.get(0);
+
+        for (User owner : users) {
+            for (int i = 0; i < 50; i++) {
+                Task task = new Task();
+                task.setTitle("Task " + i);
+                task.setStatus(Task.Status.values()[i % Task.Status.values().length]);
+                task.setPriority(Task.Priority.values()[i % Task.Priority.values().length]);
+                task.setDueDate(DUE_DATE.plusDays(i));
+                task.setUser(owner);
+                if (i % 5 == 0) {
+                    task.setCategory(category);
+                    task.setTags(new ArrayList<>(List.of(tag)));
+                }
+                entityManager.persist(task);
+            }
+        }
+    }
+
+    @Test
+    void findByUserId_ShouldNotScanTasks() {
+        // H2 also indexes the user_id foreign key on its own, so any user_id index is acceptable here
+        String plan = explain(() -> taskRepository.findByUserId(user.getId()), user.getId());
+        assertNoTaskScan(plan);
+    }
+
+    @Test
+    void findByUserIdAndStatus_ShouldUseUserStatusIndex() {
+        String plan = explain(() -> taskRepository.findByUserIdAndStatus(user.getId(), Task.Status.TODO),
+                user.getId(), Task.Status.TODO.name());
+        assertIndexUsed(plan, "idx_tasks_user_status");
+    }
+
+    @Test
+    void findByUserIdAndPriority_ShouldUseUserPriorityIndex() {
+        String plan = explain(() -> taskRepository.findByUserIdAndPriority(user.getId(), Task.Priority.HIGH),
+                user.getId(), Task.Priority.HIGH.name());
+        assertIndexUsed(plan, "idx_tasks_user_priority");
+    }
+
+    @Test
+    void findByUserIdAndCategoryId_ShouldUseUserCategoryIndex() {
+        String plan = explain(() -> taskRepository.findByUserIdAndCategoryId(user.getId(), category.getId()),
+                user.getId(), category.getId());
+        assertIndexUsed(plan, "idx_tasks_user_category");
+    }
+
+    @Test
+    void findTasksByUserAndDueDateBetween_ShouldUseUserDueDateIndex() {
+        LocalDateTime start = DUE_DATE;
+        LocalDateTime end = DUE_DATE.plusDays(3);
+        String plan = explain(() -> taskRepository.findTasksByUserAndDueDateBetween(user.getId(), start, end),
+                user.getId(), Timestamp.valueOf(start), Timestamp.valueOf(end));
+        assertIndexUsed(plan, "idx_tasks_user_due_date");
+    }
+
+    @Test
+    void findByUserIdAndTagId_ShouldUseTagIndex() {
+        String plan = explain(() -> taskRepository.findByUserIdAndTagId(user.getId(), tag.getId()),
+                user.getId(), tag.getId());
+        assertIndexUsed(plan, "idx_task_tags_tag_task");
+    }
+
+    @Test
+    void findPageByUserIdAfter_ShouldUseUserCreatedAtIndex() {
+        LocalDateTime after = LocalDateTime.now().minusMinutes(1);
+        String plan = explain(() -> taskRepository.findPageByUserIdAfter(user.getId(), after, 0L, Limit.of(10)),
+                user.getId(), Timestamp.valueOf(after), Timestamp.valueOf(after), 0L, 10);
+        assertIndexUsed(plan, "idx_tasks_user_created_at");
+    }
+
+    @Test
+    void findChangedAfter_ShouldUseUserUpdatedAtIndex() {
+        LocalDateTime after = LocalDateTime.now().minusMinutes(1);
+        String plan = explain(() -> taskRepository.findChangedAfter(user.getId(), after, 0L, Limit.of(10)),
+                user.getId(), Timestamp.valueOf(after), Timestamp.valueOf(after), 0L, 10);
+        assertIndexUsed(plan, "idx_tasks_user_updated_at");
+    }
+
+    private String explain(Runnable query, Object... parameters) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        assertFalse(SqlCapture.STATEMENTS.isEmpty(), "Query did not reach the database");
+        String sql = SqlCapture.STATEMENTS.get(0);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private static void assertIndexUsed(String plan, String indexName) {
+        assertTrue(plan.contains(indexName), () -> "Expected " + indexName + " in plan:\n" + plan);
+        assertNoTaskScan(plan);
+    }
+
+    private static void assertNoTaskScan(String plan) {
+        assertFalse(plan.contains("tasks.tableScan"), () -> "Unexpected full scan of tasks in plan:\n" + plan);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.portfolio.taskmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.AuthRequest;
+import com.portfolio.taskmanagement.dto.AuthResponse;
+import com.portfolio.taskmanagement.dto.RefreshTokenRequest;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "jwt.required=true"
+})
+@AutoConfigureMockMvc
+class JwtAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    private Long userId;
+    private Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        userId = createUser("jwtuser");
+        otherUserId = createUser("jwtother");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userService.deleteUser(userId);
+        userService.deleteUser(otherUserId);
+    }
+
+    @Test
+    void login_ShouldIssueTokenThatIdentifiesTheUser() throws Exception {
+        AuthResponse auth = login("jwtuser", "password123");
+
+        assertEquals(userId, auth.getUserId());
+        assertEquals("Bearer", auth.getType());
+        assertNotNull(auth.getRefreshToken());
+        mockMvc.perform(get("/api/tasks/counters").header(HttpHeaders.AUTHORIZATION, "Bearer " + auth.getToken()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void login_ShouldRejectWrongPassword() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest("jwtuser", "wrong-password"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void taskApi_ShouldRequireValidTokenWhenConfigured() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("userId", userId.toString()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void taskApi_ShouldForbidActingForAnotherUser() throws Exception {
+        AuthResponse auth = login("jwtuser", "password123");
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("userId", otherUserId.toString())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + auth.getToken()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void refresh_ShouldIssueNewTokensOnlyForRefreshTokens() throws Exception {
+        AuthResponse auth = login("jwtuser", "password123");
+
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(auth.getRefreshToken()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        AuthResponse refreshed = objectMapper.readValue(body, AuthResponse.class);
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer " + refreshed.getToken()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(auth.getToken()))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void signUp_ShouldIgnoreSelfAssignedAdminRole() throws Exception {
+        UserDTO signUp = new UserDTO();
+        signUp.setUsername("jwtwouldbeadmin");
+        signUp.setEmail("jwtwouldbeadmin@example.com");
+        signUp.setPassword("password123");
+        signUp.setRole(User.Role.ADMIN);
+
+        String body = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signUp)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        UserDTO created = objectMapper.readValue(body, UserDTO.class);
+        try {
+            assertEquals(User.Role.USER, created.getRole());
+            AuthResponse auth = login("jwtwouldbeadmin", "password123");
+            mockMvc.perform(get("/api/tasks")
+                            .param("userId", otherUserId.toString())
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + auth.getToken()))
+                    .andExpect(status().isForbidden());
+        } finally {
+            userService.deleteUser(created.getId());
+        }
+    }
+
+    @Test
+    void changeRole_ShouldBeLimitedToAdmins() throws Exception {
+        AuthResponse user = login("jwtuser", "password123");
+        mockMvc.perform(put("/api/users/{id}/role", userId)
+                        .param("role", "ADMIN")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + user.getToken()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/users/{id}/role", userId).param("role", "ADMIN"))
+                .andExpect(status().isUnauthorized());
+
+        userService.changeRole(otherUserId, User.Role.ADMIN);
+        AuthResponse admin = login("jwtother", "password123");
+        mockMvc.perform(put("/api/users/{id}/role", userId)
+                        .param("role", "ADMIN")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + admin.getToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("ADMIN"));
+    }
+
+    @Test
+    void userApi_ShouldLimitUsersToTheirOwnAccount() throws Exception {
+        String token = "Bearer " + login("jwtuser", "password123").getToken();
+        UserDTO update = new UserDTO();
+        update.setUsername("jwtother");
+        update.setEmail("jwtother@example.com");
+        update.setPassword("password123");
+        update.setFirstName("Hijacked");
+
+        mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/{id}", otherUserId).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/username/{username}", "jwtother").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/users/{id}", otherUserId)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/users/{id}", otherUserId).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+
+        assertNull(userService.getUserById(otherUserId).getFirstName());
+        mockMvc.perform(get("/api/users/{id}", userId).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/username/{username}", "jwtuser").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void userApi_ShouldLetAdminsReachEveryAccount() throws Exception {
+        userService.changeRole(userId, User.Role.ADMIN);
+        String token = "Bearer " + login("jwtuser", "password123").getToken();
+
+        mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/{id}", otherUserId).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("jwtother"));
+    }
+
+    private Long createUser(String username) {
+        UserDTO user = new UserDTO();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password123");
+        return userService.createUser(user).getId();
+    }
+
+    private AuthResponse login(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, AuthResponse.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.taskmanagement.security;
+
+import com.portfolio.taskmanagement.exception.UnauthorizedException;
+import com.portfolio.taskmanagement.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationMustBeLongEnoughForHS512Algorithm";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, 60_000, 600_000, 100, meterRegistry);
+        user = new User();
+        user.setId(42L);
+        user.setUsername("testuser");
+        user.setRole(User.Role.USER);
+    }
+
+    @Test
+    void verifyAccessToken_ShouldReturnClaimsOfIssuedToken() {
+        AuthenticatedUser principal = jwtService.verifyAccessToken(jwtService.createAccessToken(user));
+
+        assertEquals(new AuthenticatedUser(42L, "testuser", User.Role.USER), principal);
+    }
+
+    @Test
+    void verifyAccessToken_ShouldServeRepeatedTokenFromCache() {
+        String token = jwtService.createAccessToken(user);
+
+        jwtService.verifyAccessToken(token);
+        jwtService.verifyAccessToken(token);
+        jwtService.verifyAccessToken(token);
+
+        assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "jwtClaims", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "jwtClaims", "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void verifyAccessToken_ShouldRejectTamperedToken() {
+        String token = jwtService.createAccessToken(user);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "x." + parts[2];
+
+        assertThrows(UnauthorizedException.class, () -> jwtService.verifyAccessToken(tampered));
+    }
+
+    @Test
+    void verifyAccessToken_ShouldRejectTokenSignedWithAnotherKey() {
+        JwtService other = new JwtService(SECRET.replace('t', 'T'), 60_000, 600_000, 100, meterRegistry);
+
+        String token = other.createAccessToken(user);
+
+        assertThrows(UnauthorizedException.class, () -> jwtService.verifyAccessToken(token));
+    }
+
+    @Test
+    void verifyAccessToken_ShouldRejectExpiredToken() {
+        JwtService expiring = new JwtService(SECRET, -1_000, 600_000, 100, meterRegistry);
+
+        String token = expiring.createAccessToken(user);
+
+        assertThrows(UnauthorizedException.class, () -> expiring.verifyAccessToken(token));
+    }
+
+    @Test
+    void tokens_ShouldOnlyBeAcceptedForTheirOwnPurpose() {
+        String accessToken = jwtService.createAccessToken(user);
+        String refreshToken = jwtService.createRefreshToken(user);
+
+        assertThrows(UnauthorizedException.class, () -> jwtService.verifyAccessToken(refreshToken));
+        assertThrows(UnauthorizedException.class, () -> jwtService.verifyRefreshToken(accessToken));
+        assertEquals(42L, jwtService.verifyRefreshToken(refreshToken));
+    }
+}
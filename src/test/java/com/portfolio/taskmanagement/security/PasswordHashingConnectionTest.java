@@ -0,0 +1,125 @@
+package com.portfolio.taskmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.taskmanagement.dto.AuthRequest;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Holds a password hash open mid-request and checks that sign-up and login are not sitting on a pooled
+ * connection meanwhile, which they would be with open-in-view enabled.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PasswordHashingConnectionTest {
+
+    private static final String HASH = "$2a$10$abcdefghijklmnopqrstuuQ0Q7rl7U1aXYMqH4Ta3rYJwBoyvqcKu";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        when(passwordHashingService.hash(anyString())).thenReturn(HASH);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        release.countDown();
+        userService.getAllUsers().stream()
+                .filter(user -> user.getUsername().equals("hashwaituser"))
+                .forEach(user -> userService.deleteUser(user.getId()));
+    }
+
+    @Test
+    void signUp_ShouldHoldNoConnectionWhileHashing() throws Exception {
+        when(passwordHashingService.hash(anyString())).thenAnswer(invocation -> slowly(HASH));
+
+        MvcResult result = whileHashPending(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(user())));
+
+        assertEquals(201, result.getResponse().getStatus());
+    }
+
+    @Test
+    void login_ShouldHoldNoConnectionWhileVerifying() throws Exception {
+        userService.createUser(user());
+        when(passwordHashingService.matches(anyString(), anyString())).thenAnswer(invocation -> slowly(true));
+
+        MvcResult result = whileHashPending(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthRequest("hashwaituser", "password123"))));
+
+        assertEquals(200, result.getResponse().getStatus());
+    }
+
+    private MvcResult whileHashPending(MockHttpServletRequestBuilder request) throws Exception {
+        CompletableFuture<MvcResult> response = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(request).andReturn();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(hashing.await(10, TimeUnit.SECONDS), "Request never reached the password hash");
+        assertEquals(0.0, meterRegistry.get("hikaricp.connections.active").gauge().value());
+        release.countDown();
+        return response.get(10, TimeUnit.SECONDS);
+    }
+
+    private <T> T slowly(T result) throws InterruptedException {
+        hashing.countDown();
+        release.await(10, TimeUnit.SECONDS);
+        return result;
+    }
+
+    private static UserDTO user() {
+        UserDTO user = new UserDTO();
+        user.setUsername("hashwaituser");
+        user.setEmail("hashwaituser@example.com");
+        user.setPassword("password123");
+        return user;
+    }
+}
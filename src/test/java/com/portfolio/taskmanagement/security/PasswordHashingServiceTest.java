@@ -0,0 +1,88 @@
+package com.portfolio.taskmanagement.security;
+
+import com.portfolio.taskmanagement.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private static final int COST = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor executor;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        passwordHashingService = new PasswordHashingService(executor, COST, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void hash_ShouldProduceHashThatMatches() {
+        String hash = passwordHashingService.hash("password123");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(passwordHashingService.matches("password123", hash));
+        assertFalse(passwordHashingService.matches("wrong", hash));
+    }
+
+    @Test
+    void hash_ShouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+
+        try {
+            TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                    () -> passwordHashingService.hash("password123"));
+            assertEquals(1, exception.getRetryAfterSeconds());
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void needsRehash_ShouldOnlyUpgradeLowerCost() {
+        PasswordHashingService higherCost = new PasswordHashingService(
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1)), COST + 1,
+                new SimpleMeterRegistry());
+        try {
+            assertFalse(higherCost.needsRehash(new BCryptPasswordEncoder(COST + 1).encode("password123")));
+            assertTrue(higherCost.needsRehash(new BCryptPasswordEncoder(COST).encode("password123")));
+            assertFalse(passwordHashingService.needsRehash(new BCryptPasswordEncoder(COST + 1).encode("password123")));
+        } finally {
+            higherCost.shutdown();
+        }
+    }
+
+    @Test
+    void calibrate_ShouldStayWithinBounds() {
+        assertEquals(4, PasswordHashingService.calibrate(Duration.ofNanos(1), 4, 6));
+        assertEquals(6, PasswordHashingService.calibrate(Duration.ofHours(1), 4, 6));
+    }
+}
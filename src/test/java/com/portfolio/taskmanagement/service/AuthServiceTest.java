@@ -0,0 +1,68 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.AuthRequest;
+import com.portfolio.taskmanagement.exception.UnauthorizedException;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.repository.UserRepository;
+import com.portfolio.taskmanagement.security.JwtService;
+import com.portfolio.taskmanagement.security.PasswordHashingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        user.setPassword("$2a$10$oldhash");
+        user.setActive(true);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void login_ShouldRehashPasswordStoredWithLowerCost() {
+        when(passwordHashingService.matches("password123", "$2a$10$oldhash")).thenReturn(true);
+        when(passwordHashingService.needsRehash("$2a$10$oldhash")).thenReturn(true);
+        when(passwordHashingService.hash("password123")).thenReturn("$2a$12$newhash");
+
+        authService.login(new AuthRequest("testuser", "password123"));
+
+        verify(userRepository).updatePassword(1L, "$2a$12$newhash");
+    }
+
+    @Test
+    void login_ShouldNotRehashOnWrongPassword() {
+        when(passwordHashingService.matches("wrong", "$2a$10$oldhash")).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> authService.login(new AuthRequest("testuser", "wrong")));
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+    }
+}
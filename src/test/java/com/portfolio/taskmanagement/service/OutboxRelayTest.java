@@ -0,0 +1,149 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.CategoryDTO;
+import com.portfolio.taskmanagement.dto.TagDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.event.InMemoryOutboxSink;
+import com.portfolio.taskmanagement.event.OutboxMessage;
+import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
+import com.portfolio.taskmanagement.model.OutboxEvent;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "outbox.sink=memory",
+        "outbox.relay.interval=PT1H"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @SpyBean
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void drainOutbox() {
+        outboxRelay.relay();
+        sink.clear();
+    }
+
+    @Test
+    void relay_ShouldPublishCommittedChangesInOrderAndEmptyTheOutbox() {
+        CategoryDTO categoryDTO = new CategoryDTO();
+        categoryDTO.setName("outbox-category");
+        CategoryDTO category = categoryService.createCategory(categoryDTO);
+        TagDTO tagDTO = new TagDTO();
+        tagDTO.setName("outbox-tag");
+        TagDTO tag = tagService.createTag(tagDTO);
+        Long userId = createUser("outbox-user");
+
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle("Relayed");
+        taskDTO.setCategoryId(category.getId());
+        taskDTO.setTagIds(List.of(tag.getId()));
+        TaskDTO task = taskService.createTask(taskDTO, userId);
+        task.setTitle("Relayed again");
+        taskService.updateTask(task.getId(), task, userId, null);
+        taskService.deleteTask(task.getId(), userId);
+        tagService.deleteTag(tag.getId());
+        categoryService.deleteCategory(category.getId());
+
+        // Rolled back together with the task it describes
+        taskDTO.setCategoryId(-1L);
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(taskDTO, userId));
+
+        assertEquals(7, outboxRelay.relay());
+        List<OutboxMessage> messages = sink.getMessages();
+        assertEquals(List.of(
+                        "CATEGORY CREATED " + category.getId(),
+                        "TAG CREATED " + tag.getId(),
+                        "TASK CREATED " + task.getId(),
+                        "TASK UPDATED " + task.getId(),
+                        "TASK DELETED " + task.getId(),
+                        "TAG DELETED " + tag.getId(),
+                        "CATEGORY DELETED " + category.getId()),
+                messages.stream().map(m -> m.aggregateType() + " " + m.eventType() + " " + m.aggregateId()).toList());
+        assertTrue(messages.get(2).payload().contains("\"title\":\"Relayed\""));
+        assertTrue(messages.get(3).payload().contains("\"title\":\"Relayed again\""));
+        assertNull(messages.get(4).payload());
+        assertEquals(userId, messages.get(2).userId());
+        assertEquals(0, outboxEventRepository.count());
+
+        userService.deleteUser(userId);
+        outboxRelay.relay();
+        OutboxMessage userDeleted = sink.getMessages().get(7);
+        assertEquals(OutboxEvent.AggregateType.USER, userDeleted.aggregateType());
+        assertEquals(OutboxEvent.EventType.DELETED, userDeleted.eventType());
+    }
+
+    @Test
+    void relay_ShouldDrainInBatchesAndRetryBatchesTheSinkRejects() {
+        Long userId = createUser("outbox-batch-user");
+        List<TaskDTO> taskDTOs = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            TaskDTO taskDTO = new TaskDTO();
+            taskDTO.setTitle("Batched " + i);
+            taskDTO.setStatus(Task.Status.TODO);
+            taskDTO.setPriority(Task.Priority.LOW);
+            taskDTOs.add(taskDTO);
+        }
+        assertEquals(250, taskService.createTasks(taskDTOs, userId).getCreated());
+        double published = meterRegistry.get("outbox.events.published").counter().count();
+        double failures = meterRegistry.get("outbox.relay.failures").counter().count();
+
+        doThrow(new IllegalStateException("sink unavailable")).doCallRealMethod().when(sink).publish(anyList());
+        assertEquals(0, outboxRelay.relay());
+        assertEquals(250, outboxEventRepository.count());
+        assertEquals(failures + 1, meterRegistry.get("outbox.relay.failures").counter().count());
+
+        assertEquals(250, outboxRelay.relay());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(published + 250, meterRegistry.get("outbox.events.published").counter().count());
+        List<Long> ids = sink.getMessages().stream().map(OutboxMessage::id).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+
+        userService.deleteUser(userId);
+    }
+
+    private Long createUser(String username) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUsername(username);
+        userDTO.setEmail(username + "@example.com");
+        userDTO.setPassword("password");
+        return userService.createUser(userDTO).getId();
+    }
+}
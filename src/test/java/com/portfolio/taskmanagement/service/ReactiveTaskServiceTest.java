@@ -0,0 +1,138 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.model.Category;
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.repository.CategoryRepository;
+import com.portfolio.taskmanagement.repository.TagRepository;
+import com.portfolio.taskmanagement.repository.TaskRepository;
+import com.portfolio.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "outbox.relay.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveTaskServiceTest {
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 3, 1, 9, 0);
+
+    @Autowired
+    private ReactiveTaskService reactiveTaskService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private User user;
+    private Category category;
+    private List<Tag> tags;
+
+    @BeforeAll
+    void seedTasks() {
+        category = new Category();
+        category.setName("reactive-category");
+        category = categoryRepository.save(category);
+
+        Tag firstTag = new Tag();
+        firstTag.setName("reactive-tag-1");
+        Tag secondTag = new Tag();
+        secondTag.setName("reactive-tag-2");
+        tags = tagRepository.saveAll(Arrays.asList(firstTag, secondTag));
+
+        user = new User();
+        user.setUsername("reactive-user");
+        user.setEmail("reactive-user@example.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Task task = new Task();
+            task.setTitle("Reactive task " + i);
+            task.setStatus(Task.Status.values()[i % Task.Status.values().length]);
+            task.setPriority(Task.Priority.values()[i % Task.Priority.values().length]);
+            task.setDueDate(i % 2 == 0 ? DUE_DATE.plusDays(i) : null);
+            task.setUser(user);
+            task.setCategory(i % 3 == 0 ? null : category);
+            task.setTags(new ArrayList<>(tags.subList(0, i % 3)));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        taskRepository.deleteAllInBatch(taskRepository.findByUserId(user.getId()));
+        userRepository.delete(user);
+        tagRepository.deleteAllInBatch(tags);
+        categoryRepository.delete(category);
+    }
+
+    @Test
+    void reads_ShouldReturnTheSameTasksAsTheBlockingService() {
+        Long userId = user.getId();
+
+        assertSameTasks(taskService.getAllTasksForUser(userId), reactiveTaskService.getAllTasksForUser(userId));
+        assertSameTasks(taskService.getTasksByStatus(userId, Task.Status.COMPLETED),
+                reactiveTaskService.getTasksByStatus(userId, Task.Status.COMPLETED));
+        assertSameTasks(taskService.getTasksByPriority(userId, Task.Priority.URGENT),
+                reactiveTaskService.getTasksByPriority(userId, Task.Priority.URGENT));
+        assertSameTasks(taskService.getTasksByCategory(userId, category.getId()),
+                reactiveTaskService.getTasksByCategory(userId, category.getId()));
+        assertSameTasks(taskService.getTasksByTag(userId, tags.get(0).getId()),
+                reactiveTaskService.getTasksByTag(userId, tags.get(0).getId()));
+        assertSameTasks(taskService.getTasksDueBetween(userId, DUE_DATE, DUE_DATE.plusDays(10)),
+                reactiveTaskService.getTasksDueBetween(userId, DUE_DATE, DUE_DATE.plusDays(10)));
+    }
+
+    @Test
+    void reads_ShouldEmitOneTaskPerRequestedElementInIdOrder() {
+        List<TaskDTO> firstTasks = reactiveTaskService.getAllTasksForUser(user.getId())
+                .limitRate(1)
+                .take(5)
+                .collectList()
+                .block();
+
+        assertEquals(5, firstTasks.size());
+        assertEquals(firstTasks.stream().map(TaskDTO::getId).sorted().toList(),
+                firstTasks.stream().map(TaskDTO::getId).toList());
+        assertEquals(List.of(tags.get(0).getId(), tags.get(1).getId()), firstTasks.get(2).getTagIds());
+    }
+
+    private static void assertSameTasks(List<TaskDTO> expected, Flux<TaskDTO> actual) {
+        List<TaskDTO> streamed = actual.collectList().block();
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.stream().sorted(Comparator.comparing(TaskDTO::getId)).toList(), streamed);
+    }
+}
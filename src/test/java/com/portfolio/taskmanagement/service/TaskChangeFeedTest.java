@@ -0,0 +1,110 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskChangeDTO;
+import com.portfolio.taskmanagement.dto.TaskChangesDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.event.TaskChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeFeedTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Never runs the queued drains, like a client that stopped reading
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private TaskChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TaskChangeFeed(3, 2, Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofMinutes(1),
+                pendingDrains::add, meterRegistry);
+    }
+
+    @Test
+    void poll_ShouldReturnChangesAfterSinceInOrder() {
+        long start = ((TaskChangesDTO) feed.poll(1L, null).getResult()).getLastSequence();
+        feed.onTaskChange(TaskChangeEvent.created(1L, List.of(task(10L), task(11L))));
+        feed.onTaskChange(TaskChangeEvent.created(2L, List.of(task(20L))));
+        feed.onTaskChange(TaskChangeEvent.deleted(1L, 10L));
+
+        TaskChangesDTO changes = (TaskChangesDTO) feed.poll(1L, start).getResult();
+
+        assertEquals(List.of(TaskChangeDTO.Type.CREATED, TaskChangeDTO.Type.CREATED, TaskChangeDTO.Type.DELETED),
+                changes.getChanges().stream().map(TaskChangeDTO::getType).toList());
+        assertEquals(List.of(10L, 11L, 10L), changes.getChanges().stream().map(TaskChangeDTO::getTaskId).toList());
+        assertEquals(changes.getChanges().get(2).getSequence(), changes.getLastSequence());
+        assertFalse(changes.isReset());
+
+        long afterFirst = changes.getChanges().get(0).getSequence();
+        assertEquals(2, ((TaskChangesDTO) feed.poll(1L, afterFirst).getResult()).getChanges().size());
+    }
+
+    @Test
+    void poll_ShouldWaitForTheNextCommittedChange() {
+        long start = ((TaskChangesDTO) feed.poll(1L, null).getResult()).getLastSequence();
+        DeferredResult<TaskChangesDTO> pending = feed.poll(1L, start);
+        assertFalse(pending.hasResult());
+
+        feed.onTaskChange(TaskChangeEvent.created(2L, List.of(task(20L))));
+        assertFalse(pending.hasResult());
+
+        feed.onTaskChange(TaskChangeEvent.updated(1L, task(10L)));
+        TaskChangesDTO changes = (TaskChangesDTO) pending.getResult();
+        assertEquals(1, changes.getChanges().size());
+        assertEquals(TaskChangeDTO.Type.UPDATED, changes.getChanges().get(0).getType());
+        assertEquals(10L, changes.getChanges().get(0).getTask().getId());
+    }
+
+    @Test
+    void poll_ShouldRequestResetWhenTheHistoryNoLongerReachesBack() {
+        long start = ((TaskChangesDTO) feed.poll(1L, null).getResult()).getLastSequence();
+        for (long id = 1; id <= 4; id++) {
+            feed.onTaskChange(TaskChangeEvent.updated(1L, task(id)));
+        }
+
+        TaskChangesDTO changes = (TaskChangesDTO) feed.poll(1L, start).getResult();
+        assertTrue(changes.isReset());
+        assertTrue(changes.getChanges().isEmpty());
+
+        // Resuming from the reported sequence works again
+        assertFalse(feed.poll(1L, changes.getLastSequence()).hasResult());
+    }
+
+    @Test
+    void poll_ShouldRequestResetAfterBulkUpdate() {
+        long start = ((TaskChangesDTO) feed.poll(1L, null).getResult()).getLastSequence();
+        feed.onTaskChange(TaskChangeEvent.bulkUpdated(1L));
+
+        TaskChangesDTO changes = (TaskChangesDTO) feed.poll(1L, start).getResult();
+        assertTrue(changes.isReset());
+        assertEquals(TaskChangeDTO.Type.RESET, changes.getChanges().get(0).getType());
+    }
+
+    @Test
+    void subscribe_ShouldDropStreamWhoseBufferOverflows() {
+        feed.subscribe(1L, null);
+        assertEquals(1, meterRegistry.get("task.changes.streams").gauge().value());
+
+        // The ready event and one change fill the buffer of two, the next change overflows it
+        feed.onTaskChange(TaskChangeEvent.created(1L, List.of(task(10L), task(11L), task(12L))));
+        feed.onTaskChange(TaskChangeEvent.created(1L, List.of(task(13L))));
+
+        assertEquals(1, meterRegistry.get("task.changes.overflows").counter().count());
+        assertEquals(1, pendingDrains.size());
+    }
+
+    private static TaskDTO task(Long id) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        return task;
+    }
+}
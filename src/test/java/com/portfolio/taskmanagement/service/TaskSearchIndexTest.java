@@ -0,0 +1,136 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.event.TaskChangeEvent;
+import com.portfolio.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TaskSearchIndex(taskRepository, "", false);
+        index.onTaskChange(TaskChangeEvent.created(1L, List.of(
+                task(1L, "Quarterly report", "Collect numbers from finance"),
+                task(2L, "Fix login bug", "The report page crashes after login"),
+                task(3L, "Grocery shopping", null))));
+        index.onTaskChange(TaskChangeEvent.created(2L, List.of(
+                task(4L, "Quarterly report", "Another user's task"))));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(1L, 2L), index.search(1L, "report", 10));
+    }
+
+    @Test
+    void search_ShouldMatchWordPrefixes() {
+        assertEquals(List.of(3L), index.search(1L, "groc shop", 10));
+    }
+
+    @Test
+    void search_ShouldOnlyReturnTasksOfTheUser() {
+        assertEquals(List.of(4L), index.search(2L, "quarterly", 10));
+    }
+
+    @Test
+    void search_ShouldRequireEveryWord() {
+        assertEquals(List.of(2L), index.search(1L, "report login", 10));
+    }
+
+    @Test
+    void onTaskChange_ShouldReplaceUpdatedAndDropDeletedTasks() {
+        index.onTaskChange(TaskChangeEvent.updated(1L, task(1L, "Annual summary", null)));
+        index.onTaskChange(TaskChangeEvent.deleted(1L, 2L));
+
+        assertTrue(index.search(1L, "report", 10).isEmpty());
+        assertEquals(List.of(1L), index.search(1L, "annual", 10));
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesCommittedWhileTasksAreRead() {
+        List<TaskRepository.TaskText> snapshot = List.of(
+                text(1L, 1L, "Quarterly report", null),
+                text(2L, 1L, "Fix login bug", "The report page crashes after login"));
+        when(taskRepository.streamAllText()).thenReturn(snapshot.stream().peek(row -> {
+            if (row.getId() == 1L) {
+                // Committed after the rebuild started reading; searches still see the previous index
+                index.onTaskChange(TaskChangeEvent.updated(1L, task(1L, "Annual summary", null)));
+                index.onTaskChange(TaskChangeEvent.deleted(1L, 2L));
+                assertEquals(List.of(1L, 2L), index.search(1L, "report", 10));
+            }
+        }));
+
+        index.rebuild();
+
+        assertTrue(index.search(1L, "report", 10).isEmpty());
+        assertEquals(List.of(1L), index.search(1L, "annual", 10));
+        assertTrue(index.search(1L, "grocery", 10).isEmpty());
+    }
+
+    @Test
+    void commit_ShouldPersistChangesOfAnIndexOnDisk(@TempDir Path indexPath) throws IOException {
+        TaskSearchIndex onDisk = new TaskSearchIndex(taskRepository, indexPath.toString(), false);
+        try {
+            onDisk.onTaskChange(TaskChangeEvent.created(1L, List.of(task(1L, "Quarterly report", null))));
+            onDisk.commit();
+
+            try (Directory directory = FSDirectory.open(indexPath);
+                 DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.numDocs());
+            }
+        } finally {
+            onDisk.close();
+        }
+    }
+
+    private static TaskRepository.TaskText text(Long id, Long userId, String title, String description) {
+        return new TaskRepository.TaskText() {
+            public Long getId() {
+                return id;
+            }
+
+            public Long getUserId() {
+                return userId;
+            }
+
+            public String getTitle() {
+                return title;
+            }
+
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+
+    private static TaskDTO task(Long id, String title, String description) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
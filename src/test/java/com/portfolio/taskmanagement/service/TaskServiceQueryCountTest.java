@@ -0,0 +1,487 @@
+package com.portfolio.taskmanagement.service;
+
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskUpdateResultDTO;
+import com.portfolio.taskmanagement.dto.TaskCountersDTO;
+import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.TaskSearchCriteria;
+import com.portfolio.taskmanagement.dto.TaskSearchResultDTO;
+import com.portfolio.taskmanagement.dto.TaskStatsDTO;
+import com.portfolio.taskmanagement.dto.TaskSyncDTO;
+import com.portfolio.taskmanagement.dto.UserDTO;
+import com.portfolio.taskmanagement.model.Category;
+import com.portfolio.taskmanagement.model.Tag;
+import com.portfolio.taskmanagement.model.Task;
+import com.portfolio.taskmanagement.model.User;
+import com.portfolio.taskmanagement.exception.BadRequestException;
+import com.portfolio.taskmanagement.model.UserTaskCounter;
+import com.portfolio.taskmanagement.repository.CategoryRepository;
+import com.portfolio.taskmanagement.repository.TagRepository;
+import com.portfolio.taskmanagement.repository.TaskDeletionRepository;
+import com.portfolio.taskmanagement.repository.TaskRepository;
+import com.portfolio.taskmanagement.repository.UserRepository;
+import com.portfolio.taskmanagement.repository.UserTaskCounterRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "outbox.relay.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskServiceQueryCountTest {
+
+    private static final int SMALL_USER_TASKS = 10;
+    private static final int LARGE_USER_TASKS = 1000;
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 1, 15, 12, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskViewCache taskViewCache;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private UserTaskCounterRepository counterRepository;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
+    @Autowired
+    private TaskDeletionRepository deletionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User smallUser;
+    private User largeUser;
+    private User bulkUser;
+    private Category category;
+    private List<Tag> tags;
+
+    @BeforeAll
+    void seedTasks() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        category = new Category();
+        category.setName("query-count-category");
+        category = categoryRepository.save(category);
+
+        Tag firstTag = new Tag();
+        firstTag.setName("query-count-tag-1");
+        Tag secondTag = new Tag();
+        secondTag.setName("query-count-tag-2");
+        tags = tagRepository.saveAll(Arrays.asList(firstTag, secondTag));
+
+        smallUser = saveUser("query-count-small");
+        largeUser = saveUser("query-count-large");
+        saveTasks(smallUser, SMALL_USER_TASKS, tags);
+        saveTasks(largeUser, LARGE_USER_TASKS, tags);
+        bulkUser = saveUser("query-count-bulk");
+        saveTasks(bulkUser, LARGE_USER_TASKS, tags);
+        // The tasks above bypass TaskService, which is exactly the drift reconciliation repairs
+        taskCounterService.reconcile();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        taskRepository.deleteAllInBatch();
+        counterRepository.deleteAllInBatch();
+        deletionRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        tagRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getAllTasksForUser_ShouldUseConstantStatementCount() {
+        assertConstantStatementCount(userId -> taskService.getAllTasksForUser(userId));
+    }
+
+    @Test
+    void getTasksByStatus_ShouldUseConstantStatementCount() {
+        assertConstantStatementCount(userId -> taskService.getTasksByStatus(userId, Task.Status.TODO));
+    }
+
+    @Test
+    void getTasksByPriority_ShouldUseConstantStatementCount() {
+        assertConstantStatementCount(userId -> taskService.getTasksByPriority(userId, Task.Priority.HIGH));
+    }
+
+    @Test
+    void getTasksByCategory_ShouldUseConstantStatementCount() {
+        assertConstantStatementCount(userId -> taskService.getTasksByCategory(userId, category.getId()));
+    }
+
+    @Test
+    void getTasksDueBetween_ShouldUseConstantStatementCount() {
+        assertConstantStatementCount(userId -> taskService.getTasksDueBetween(
+                userId, DUE_DATE.minusDays(1), DUE_DATE.plusDays(1)));
+    }
+
+    @Test
+    void getTaskPage_ShouldUseConstantStatementCount() {
+        assertConstantStatementCount(userId ->
+                taskService.getTaskPage(userId, null, TaskService.MAX_PAGE_SIZE).getContent());
+    }
+
+    @Test
+    void searchTasks_ShouldUseConstantStatementCount() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setStatus(Set.of(Task.Status.TODO, Task.Status.IN_PROGRESS));
+        criteria.setPriority(Set.of(Task.Priority.HIGH));
+        criteria.setCategoryId(category.getId());
+        criteria.setTagId(Set.of(tags.get(0).getId()));
+        criteria.setDueFrom(DUE_DATE.minusDays(1));
+        criteria.setDueTo(DUE_DATE.plusDays(1));
+        criteria.setText("task 1");
+
+        assertConstantStatementCount(userId ->
+                taskService.searchTasks(userId, criteria, 0, 5, List.of("dueDate", "desc"), false).getContent());
+    }
+
+    @Test
+    void searchTasks_ShouldCountMatchesWithoutDuplicatingMultiTaggedTasks() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setTagId(Set.of(tags.get(0).getId(), tags.get(1).getId()));
+
+        TaskSearchResultDTO firstPage = taskService.searchTasks(largeUser.getId(), criteria, 0, 100, null, true);
+        TaskSearchResultDTO lastPage = taskService.searchTasks(
+                largeUser.getId(), criteria, LARGE_USER_TASKS / 100 - 1, 100, null, false);
+
+        assertEquals(LARGE_USER_TASKS, firstPage.getTotalElements());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(100, firstPage.getContent().stream().map(TaskDTO::getId).distinct().count());
+        assertNull(lastPage.getTotalElements());
+        assertFalse(lastPage.isHasNext());
+        assertEquals(100, lastPage.getContent().size());
+    }
+
+    @Test
+    void searchTasks_WithQuery_ShouldFindCommittedTasksByRelevance() {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle("Prepare onboarding checklist");
+        taskDTO.setDescription("Laptop, accounts and a welcome lunch");
+        taskDTO.setStatus(Task.Status.TODO);
+        taskDTO.setPriority(Task.Priority.LOW);
+        TaskDTO created = taskService.createTask(taskDTO, smallUser.getId());
+
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setQ("onboard welcome");
+        TaskSearchResultDTO found = taskService.searchTasks(smallUser.getId(), criteria, 0, 10, null, true);
+        TaskSearchResultDTO otherUser = taskService.searchTasks(largeUser.getId(), criteria, 0, 10, null, true);
+        criteria.setPriority(Set.of(Task.Priority.HIGH));
+        TaskSearchResultDTO filteredOut = taskService.searchTasks(smallUser.getId(), criteria, 0, 10, null, true);
+        taskService.deleteTask(created.getId(), smallUser.getId());
+        criteria.setPriority(null);
+        TaskSearchResultDTO deleted = taskService.searchTasks(smallUser.getId(), criteria, 0, 10, null, true);
+
+        assertEquals(List.of(created.getId()), found.getContent().stream().map(TaskDTO::getId).toList());
+        assertEquals(1L, found.getTotalElements());
+        assertEquals(0L, otherUser.getTotalElements());
+        assertEquals(0L, filteredOut.getTotalElements());
+        assertEquals(0L, deleted.getTotalElements());
+    }
+
+    @Test
+    void getTaskStats_ShouldAggregateInFourStatements() {
+        User statsUser = saveUser("query-count-stats");
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        saveTask(statsUser, Task.Status.COMPLETED, past, category, tags);
+        saveTask(statsUser, Task.Status.COMPLETED, null, category, List.of());
+        saveTask(statsUser, Task.Status.TODO, past, null, List.of(tags.get(0)));
+        saveTask(statsUser, Task.Status.IN_PROGRESS, past, category, List.of());
+        saveTask(statsUser, Task.Status.ARCHIVED, past, null, List.of());
+
+        statistics.clear();
+        TaskStatsDTO stats = taskService.getTaskStats(statsUser.getId(), null, null);
+        TaskStatsDTO largeStats = taskService.getTaskStats(largeUser.getId(), null, null);
+
+        assertEquals(8, statistics.getPrepareStatementCount());
+        assertEquals(5, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get(Task.Status.COMPLETED));
+        assertEquals(0L, stats.getByPriority().get(Task.Priority.HIGH));
+        assertEquals(5L, stats.getByPriority().get(Task.Priority.MEDIUM));
+        assertEquals(2, stats.getOverdue());
+        assertEquals(List.of(new TaskStatsDTO.GroupCount(category.getId(), category.getName(), 3),
+                new TaskStatsDTO.GroupCount(null, null, 2)), stats.getByCategory());
+        assertEquals(2L, stats.getByTag().stream()
+                .filter(tag -> tag.getId().equals(tags.get(0).getId())).findFirst().orElseThrow().getCount());
+        assertEquals(30, stats.getCompletedPerDay().size());
+        assertEquals(new TaskStatsDTO.DailyCount(LocalDate.now(), 2), stats.getCompletedPerDay().get(29));
+        assertEquals(LARGE_USER_TASKS, largeStats.getTotal());
+        assertEquals((long) LARGE_USER_TASKS, largeStats.getByPriority().get(Task.Priority.HIGH));
+
+        taskRepository.deleteAllInBatch(taskRepository.findByUserId(statsUser.getId()));
+    }
+
+    @Test
+    void taskCounters_ShouldFollowTaskWritesAndBeRepairedWhenTheyDrift() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUsername("query-count-counters");
+        userDTO.setEmail("query-count-counters@example.com");
+        userDTO.setPassword("password");
+        Long userId = userService.createUser(userDTO).getId();
+
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle("Counted");
+        taskDTO.setStatus(Task.Status.TODO);
+        taskDTO.setPriority(Task.Priority.LOW);
+        TaskDTO first = taskService.createTask(taskDTO, userId);
+        TaskDTO second = taskService.createTask(taskDTO, userId);
+        taskService.createTasks(List.of(taskDTO, taskDTO), userId);
+        first.setStatus(Task.Status.COMPLETED);
+        first.setPriority(Task.Priority.URGENT);
+        taskService.updateTask(first.getId(), first, userId, null);
+        taskService.deleteTask(second.getId(), userId);
+        BulkTaskUpdateDTO update = new BulkTaskUpdateDTO();
+        update.setCurrentStatuses(List.of(Task.Status.TODO));
+        update.setPriority(Task.Priority.HIGH);
+        taskService.updateTasks(update, userId);
+
+        statistics.clear();
+        TaskCountersDTO counters = taskService.getTaskCounters(userId);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, counters.getTotal());
+        assertEquals(2L, counters.getByStatus().get(Task.Status.TODO));
+        assertEquals(1L, counters.getByStatus().get(Task.Status.COMPLETED));
+        assertEquals(2L, counters.getByPriority().get(Task.Priority.HIGH));
+        assertEquals(1L, counters.getByPriority().get(Task.Priority.URGENT));
+        assertEquals(0L, counters.getByPriority().get(Task.Priority.LOW));
+        TaskStatsDTO stats = taskService.getTaskStats(userId, null, null);
+        assertEquals(stats.getByStatus(), counters.getByStatus());
+        assertEquals(stats.getByPriority(), counters.getByPriority());
+
+        UserTaskCounter drifted = counterRepository.findById(
+                new UserTaskCounter.Key(userId, Task.Status.TODO, Task.Priority.HIGH)).orElseThrow();
+        drifted.setTaskCount(42);
+        counterRepository.save(drifted);
+        counterRepository.deleteById(new UserTaskCounter.Key(userId, Task.Status.COMPLETED, Task.Priority.URGENT));
+
+        assertEquals(2, taskCounterService.reconcile());
+        assertEquals(counters, taskService.getTaskCounters(userId));
+        assertEquals(0, taskCounterService.reconcile());
+
+        userService.deleteUser(userId);
+        assertTrue(counterRepository.findByIdUserId(userId).isEmpty());
+    }
+
+    @Test
+    void syncTasks_ShouldReturnChangesAndTombstonesSinceTheToken() {
+        Long userId = saveUser("query-count-sync").getId();
+        TaskSyncDTO initial = taskSyncService.sync(userId, null, 10);
+        assertTrue(initial.isReset());
+
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle("Synced");
+        TaskDTO kept = taskService.createTask(taskDTO, userId);
+        TaskDTO removed = taskService.createTask(taskDTO, userId);
+        kept.setTitle("Synced again");
+        taskService.updateTask(kept.getId(), kept, userId, null);
+        taskService.deleteTask(removed.getId(), userId);
+
+        statistics.clear();
+        TaskSyncDTO changes = taskSyncService.sync(userId, initial.getNextToken(), 10);
+        // Changed tasks, tombstones, and the tags of the changed tasks
+        assertTrue(statistics.getPrepareStatementCount() <= 3);
+        assertFalse(changes.isReset());
+        assertFalse(changes.isHasMore());
+        assertEquals(List.of("Synced again"), changes.getChanged().stream().map(TaskDTO::getTitle).toList());
+        assertEquals(List.of(removed.getId()), changes.getDeleted());
+
+        // The update precedes the deletion on the timeline, so a page of one splits them
+        TaskSyncDTO firstPage = taskSyncService.sync(userId, initial.getNextToken(), 1);
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of(kept.getId()), firstPage.getChanged().stream().map(TaskDTO::getId).toList());
+        TaskSyncDTO secondPage = taskSyncService.sync(userId, firstPage.getNextToken(), 1);
+        assertFalse(secondPage.isHasMore());
+        assertTrue(secondPage.getChanged().isEmpty());
+        assertEquals(List.of(removed.getId()), secondPage.getDeleted());
+
+        // Changes within the commit lag are repeated by the next sync rather than risk being skipped
+        TaskSyncDTO repeated = taskSyncService.sync(userId, changes.getNextToken(), 10);
+        assertEquals(changes.getChanged(), repeated.getChanged());
+        assertEquals(changes.getDeleted(), repeated.getDeleted());
+
+        String expired = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("sync:2000-01-01T00:00|0".getBytes(StandardCharsets.UTF_8));
+        assertTrue(taskSyncService.sync(userId, expired, 10).isReset());
+        assertThrows(BadRequestException.class, () -> taskSyncService.sync(userId, "not-a-token", 10));
+
+        userService.deleteUser(userId);
+        assertTrue(deletionRepository.findAll().stream().noneMatch(deletion -> deletion.getUserId().equals(userId)));
+    }
+
+    @Test
+    void streamTasksForUser_ShouldLoadTagsOncePerChunk() {
+        // The stream itself plus one tags query for every 500 tasks
+        assertEquals(2, countStatements(userId -> {
+            List<TaskDTO> tasks = new ArrayList<>();
+            taskService.streamTasksForUser(userId, tasks::add);
+            return tasks;
+        }, smallUser.getId()));
+        List<TaskDTO> streamed = new ArrayList<>();
+        assertEquals(3, countStatements(userId -> {
+            taskService.streamTasksForUser(userId, streamed::add);
+            return streamed;
+        }, largeUser.getId()));
+
+        assertEquals(LARGE_USER_TASKS, streamed.size());
+        assertEquals(LARGE_USER_TASKS, streamed.stream().map(TaskDTO::getId).distinct().count());
+        Map<Long, Set<Long>> storedTagIds = new HashMap<>();
+        jdbcTemplate.query("SELECT tt.task_id, tt.tag_id FROM task_tags tt JOIN tasks t ON t.id = tt.task_id "
+                        + "WHERE t.user_id = ?",
+                (RowCallbackHandler) row -> storedTagIds.computeIfAbsent(row.getLong(1), id -> new HashSet<>())
+                        .add(row.getLong(2)),
+                largeUser.getId());
+        streamed.forEach(task -> {
+            assertEquals(storedTagIds.get(task.getId()).size(), task.getTagIds().size());
+            assertEquals(storedTagIds.get(task.getId()), new HashSet<>(task.getTagIds()));
+        });
+    }
+
+    @Test
+    void updateTasks_ShouldChangeEveryMatchingTaskWithConstantStatementCount() {
+        BulkTaskUpdateDTO update = new BulkTaskUpdateDTO();
+        update.setCurrentStatuses(Arrays.asList(Task.Status.TODO));
+        update.setStatus(Task.Status.ARCHIVED);
+
+        statistics.clear();
+        BulkTaskUpdateResultDTO result = taskService.updateTasks(update, bulkUser.getId());
+
+        assertEquals(LARGE_USER_TASKS, result.getUpdated());
+        // One grouped count, the UPDATE itself, one counter update each for TODO/HIGH and ARCHIVED/HIGH and the
+        // outbox row, plus a sequence call whenever the pooled outbox ids run out
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements == 5 || statements == 6, "Expected 5 or 6 statements but was " + statements);
+        assertEquals((long) LARGE_USER_TASKS,
+                taskService.getTaskCounters(bulkUser.getId()).getByStatus().get(Task.Status.ARCHIVED));
+        assertEquals(LARGE_USER_TASKS, taskService.getTasksByStatus(bulkUser.getId(), Task.Status.ARCHIVED).size());
+        assertEquals(LARGE_USER_TASKS, taskService.getTasksByStatus(largeUser.getId(), Task.Status.TODO).size());
+    }
+
+    @Test
+    void createTask_ShouldResolveCategoryAndTagsFromSecondLevelCache() {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setTitle("Cached references");
+        taskDTO.setStatus(Task.Status.TODO);
+        taskDTO.setPriority(Task.Priority.LOW);
+        taskDTO.setCategoryId(category.getId());
+        taskDTO.setTagIds(Arrays.asList(tags.get(0).getId(), tags.get(1).getId()));
+        taskService.createTask(taskDTO, smallUser.getId());
+
+        statistics.clear();
+        TaskDTO created = taskService.createTask(taskDTO, smallUser.getId());
+        taskService.deleteTask(created.getId(), smallUser.getId());
+
+        assertEquals(category.getName(), created.getCategoryName());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount(), "category should come from the entity cache");
+        assertEquals(1, statistics.getQueryCacheHitCount(), "tag lookup should come from the query cache");
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    private void assertConstantStatementCount(Function<Long, List<TaskDTO>> read) {
+        long smallUserStatements = countStatements(read, smallUser.getId());
+        long largeUserStatements = countStatements(read, largeUser.getId());
+
+        assertTrue(largeUserStatements <= 2, "Expected at most 2 statements but was " + largeUserStatements);
+        assertEquals(smallUserStatements, largeUserStatements);
+    }
+
+    private long countStatements(Function<Long, List<TaskDTO>> read, Long userId) {
+        // Measure the cold fetch plan, not whatever earlier tests left in the second-level cache
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        taskViewCache.invalidateAll();
+        statistics.clear();
+        List<TaskDTO> tasks = read.apply(userId);
+
+        assertFalse(tasks.isEmpty());
+        tasks.forEach(task -> {
+            assertEquals(category.getName(), task.getCategoryName());
+            assertEquals(2, task.getTagNames().size());
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+
+    private void saveTask(User user, Task.Status status, LocalDateTime dueDate, Category category, List<Tag> tags) {
+        Task task = new Task();
+        task.setTitle("Stats task");
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        task.setUser(user);
+        task.setCategory(category);
+        task.setTags(new ArrayList<>(tags));
+        taskRepository.save(task);
+    }
+
+    private void saveTasks(User user, int count, List<Tag> tags) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setPriority(Task.Priority.HIGH);
+            task.setDueDate(DUE_DATE);
+            task.setUser(user);
+            task.setCategory(category);
+            task.setTags(new ArrayList<>(tags));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+}
@@ -1,27 +1,42 @@
 package com.portfolio.taskmanagement.service;
 
+import com.portfolio.taskmanagement.dto.BulkTaskItemResultDTO;
+import com.portfolio.taskmanagement.dto.BulkTaskResultDTO;
 import com.portfolio.taskmanagement.dto.TaskDTO;
+import com.portfolio.taskmanagement.dto.TaskPageDTO;
+import com.portfolio.taskmanagement.exception.BadRequestException;
 import com.portfolio.taskmanagement.exception.ResourceNotFoundException;
+import com.portfolio.taskmanagement.model.Tag;
 import com.portfolio.taskmanagement.model.Task;
 import com.portfolio.taskmanagement.model.User;
 import com.portfolio.taskmanagement.repository.CategoryRepository;
 import com.portfolio.taskmanagement.repository.TagRepository;
 import com.portfolio.taskmanagement.repository.TaskRepository;
 import com.portfolio.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +54,27 @@ class TaskServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
+    @Mock
+    private TaskSyncService taskSyncService;
+
+    @Spy
+    private TaskViewCache taskViewCache = new TaskViewCache(1000, 1000, Duration.ofMinutes(1), true, new SimpleMeterRegistry());
+
     @InjectMocks
     private TaskService taskService;
 
@@ -81,19 +117,95 @@ class TaskServiceTest {
     }
 
     @Test
-    void getTaskById_WhenTaskExists_ShouldReturnTask() {
+    void getAllTasksForUser_ShouldServeRepeatedReadsFromCacheUntilTaskChanges() {
+        when(taskRepository.findByUserId(1L)).thenReturn(Arrays.asList(testTask));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        String eTag = taskService.getTaskListETag(1L);
+
+        taskService.getAllTasksForUser(1L);
+        taskService.getAllTasksForUser(1L);
+
+        verify(taskRepository, times(1)).findByUserId(1L);
+        assertEquals(eTag, taskService.getTaskListETag(1L));
+
+        taskService.deleteTask(1L, 1L);
+        taskService.getAllTasksForUser(1L);
+
+        verify(taskRepository, times(2)).findByUserId(1L);
+        assertNotEquals(eTag, taskService.getTaskListETag(1L));
+    }
+
+    @Test
+    void taskViewCache_WhenNotSingleInstance_ShouldLoadEveryTimeAndIssueNoETag() {
+        TaskViewCache sharedCache = new TaskViewCache(1000, 1000, Duration.ofMinutes(1), false, new SimpleMeterRegistry());
+        List<TaskDTO> tasks = List.of(testTaskDTO);
+        int[] loads = {0};
+
+        sharedCache.get(1L, "all", () -> {
+            loads[0]++;
+            return tasks;
+        });
+        sharedCache.get(1L, "all", () -> {
+            loads[0]++;
+            return tasks;
+        });
+
+        assertEquals(2, loads[0]);
+        assertNull(sharedCache.getETag(1L));
+    }
+
+    @Test
+    void getTaskPage_WhenMoreTasksRemain_ShouldReturnCursorForNextPage() {
+        Task secondTask = new Task();
+        secondTask.setId(2L);
+        secondTask.setTitle("Second Task");
+        secondTask.setUser(testUser);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 30, 15, 123456000);
+        testTask.setCreatedAt(createdAt);
+        secondTask.setCreatedAt(createdAt.plusSeconds(1));
+        when(taskRepository.findFirstPageByUserId(eq(1L), any(Limit.class)))
+                .thenReturn(Arrays.asList(testTask, secondTask));
+        when(taskRepository.findPageByUserIdAfter(eq(1L), eq(createdAt), eq(1L), any(Limit.class)))
+                .thenReturn(Arrays.asList(secondTask));
+
+        TaskPageDTO firstPage = taskService.getTaskPage(1L, null, 1);
+
+        assertEquals(1, firstPage.getContent().size());
+        assertEquals("Test Task", firstPage.getContent().get(0).getTitle());
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+
+        TaskPageDTO secondPage = taskService.getTaskPage(1L, firstPage.getNextCursor(), 1);
+
+        assertEquals("Second Task", secondPage.getContent().get(0).getTitle());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void getTaskPage_WhenCursorIsMalformed_ShouldThrowException() {
+        assertThrows(BadRequestException.class, () -> {
+            taskService.getTaskPage(1L, "not-a-cursor", 10);
+        });
+        String idOnlyCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("id:42".getBytes(StandardCharsets.UTF_8));
+        assertThrows(BadRequestException.class, () -> taskService.getTaskPage(1L, idOnlyCursor, 10));
+    }
+
+    @Test
+    void getTaskById_WhenTaskExists_ShouldReturnTask() {
+        when(taskRepository.findWithDetailsById(1L)).thenReturn(Optional.of(testTask));
 
         TaskDTO result = taskService.getTaskById(1L, 1L);
 
         assertNotNull(result);
         assertEquals("Test Task", result.getTitle());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findWithDetailsById(1L);
     }
 
     @Test
     void getTaskById_WhenTaskNotExists_ShouldThrowException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithDetailsById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             taskService.getTaskById(1L, 1L);
@@ -102,15 +214,91 @@ class TaskServiceTest {
 
     @Test
     void createTask_ShouldCreateAndReturnTask() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         TaskDTO result = taskService.createTask(testTaskDTO, 1L);
 
         assertNotNull(result);
         assertEquals("Test Task", result.getTitle());
-        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(1)).existsById(1L);
+        verify(userRepository, never()).findById(1L);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskCounterService).add(1L, testTask.getStatus(), testTask.getPriority(), 1);
+    }
+
+    @Test
+    void createTask_WithTags_ShouldResolveAllTagsInOneLookup() {
+        Tag firstTag = new Tag();
+        firstTag.setId(1L);
+        firstTag.setName("urgent");
+        Tag secondTag = new Tag();
+        secondTag.setId(2L);
+        secondTag.setName("review");
+        testTaskDTO.setTagIds(Arrays.asList(2L, 1L, 2L));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(tagRepository.findAllById(Arrays.asList(2L, 1L))).thenReturn(Arrays.asList(firstTag, secondTag));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskDTO result = taskService.createTask(testTaskDTO, 1L);
+
+        assertEquals(Arrays.asList(2L, 1L), result.getTagIds());
+        verify(tagRepository, times(1)).findAllById(Arrays.asList(2L, 1L));
+        verify(tagRepository, never()).findById(any());
+    }
+
+    @Test
+    void createTask_WithUnknownTags_ShouldReportAllMissingIds() {
+        Tag knownTag = new Tag();
+        knownTag.setId(1L);
+        testTaskDTO.setTagIds(Arrays.asList(1L, 7L, 9L));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(tagRepository.findAllById(Arrays.asList(1L, 7L, 9L))).thenReturn(Arrays.asList(knownTag));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            taskService.createTask(testTaskDTO, 1L);
+        });
+
+        assertEquals("Tags not found with ids: [7, 9]", exception.getMessage());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void createTasks_ShouldPersistValidTasksAndReportInvalidOnes() {
+        TaskDTO invalidTaskDTO = new TaskDTO();
+        invalidTaskDTO.setTitle("Invalid Task");
+        invalidTaskDTO.setStatus(Task.Status.TODO);
+        invalidTaskDTO.setPriority(Task.Priority.LOW);
+        invalidTaskDTO.setTagIds(Arrays.asList(42L));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+
+        BulkTaskResultDTO result = taskService.createTasks(Arrays.asList(testTaskDTO, invalidTaskDTO), 1L);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkTaskItemResultDTO.Status.CREATED, result.getItems().get(0).getStatus());
+        assertEquals(BulkTaskItemResultDTO.Status.FAILED, result.getItems().get(1).getStatus());
+        assertEquals(Arrays.asList("Tags not found with ids: [42]"), result.getItems().get(1).getErrors());
+        verify(tagRepository, times(1)).findAllById(any());
+        verify(entityManager, times(1)).persist(any(Task.class));
+    }
+
+    @Test
+    void createTasks_ShouldReportNullItemsAsFailed() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+
+        BulkTaskResultDTO result = taskService.createTasks(Arrays.asList(null, testTaskDTO), 1L);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkTaskItemResultDTO.Status.FAILED, result.getItems().get(0).getStatus());
+        assertEquals(Arrays.asList("Task must not be null"), result.getItems().get(0).getErrors());
+        assertEquals(BulkTaskItemResultDTO.Status.CREATED, result.getItems().get(1).getStatus());
     }
 
     @Test
@@ -122,5 +310,7 @@ class TaskServiceTest {
 
         verify(taskRepository, times(1)).findById(1L);
         verify(taskRepository, times(1)).delete(testTask);
+        verify(taskCounterService).add(1L, testTask.getStatus(), testTask.getPriority(), -1);
+        verify(taskSyncService).recordDeletion(1L, 1L);
     }
 }